@@ -0,0 +1,54 @@
+package com.example.cincuentazo.benchmarks;
+
+import com.example.cincuentazo.models.CardModel;
+import com.example.cincuentazo.models.HandModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the per-card and per-hand helpers used inside every AI loop.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardBenchmark {
+
+    @State(Scope.Thread)
+    public static class Cards {
+        HandModel hand;
+        CardModel[] sample;
+        int sum;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            sample = new CardModel[] {
+                    CardModel.of("A", "picas"),
+                    CardModel.of("7", "corazones"),
+                    CardModel.of("9", "diamantes"),
+                    CardModel.of("K", "treboles")
+            };
+            hand = new HandModel();
+            for (CardModel c : sample) hand.add(c);
+            sum = 38;
+        }
+    }
+
+    @Benchmark
+    public List<CardModel> handGetCards(Cards s) {
+        return s.hand.getCards();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public int valueWhenPlayed(Cards s) {
+        int total = 0;
+        for (CardModel c : s.sample) {
+            total += c.valueWhenPlayed(s.sum);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.cincuentazo.benchmarks;
+
+import com.example.cincuentazo.models.CardModel;
+import com.example.cincuentazo.models.DeckModel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link DeckModel} construction, shuffling and drawing.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+
+    @State(Scope.Thread)
+    public static class Decks {
+        SplittableRandom random;
+        DeckModel deck;
+        DeckModel pile;
+        /** Scratch for {@code drawAll}, so the benchmark itself allocates nothing */
+        final CardModel[] drawn = new CardModel[CardModel.DECK_SIZE];
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            random = new SplittableRandom(3);
+            deck = new DeckModel(random);
+            pile = DeckModel.empty(random);
+        }
+    }
+
+    @Benchmark
+    public DeckModel construct(Decks s) {
+        // Builds the 52 cards and shuffles them, as every startGame does
+        return new DeckModel(s.random);
+    }
+
+    @Benchmark
+    public DeckModel shuffle(Decks s) {
+        s.deck.shuffle();
+        return s.deck;
+    }
+
+    /**
+     * Draws every card of a full deck; the cards are put back at the bottom so the
+     * deck can be reused by the next invocation.
+     */
+    @Benchmark
+    @OperationsPerInvocation(52)
+    public void drawAll(Decks s, Blackhole bh) {
+        DeckModel deck = s.deck;
+        CardModel[] drawn = s.drawn;
+        int n = 0;
+        CardModel c;
+        while ((c = deck.draw()) != null) {
+            drawn[n++] = c;
+        }
+        for (int i = 0; i < n; i++) {
+            deck.addToBottom(drawn[i]);
+        }
+        bh.consume(drawn);
+    }
+
+    /**
+     * Moves a whole deck to a discard pile and turns the pile back into the deck,
+     * as the engine does when the deck runs out.
+     */
+    @Benchmark
+    public DeckModel refillFromDiscard(Decks s) {
+        DeckModel deck = s.deck;
+        DeckModel pile = s.pile;
+        CardModel c;
+        while ((c = deck.draw()) != null) {
+            pile.addToTop(c);
+        }
+        deck.refillFrom(pile);
+        return deck;
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.cincuentazo.benchmarks;
+
+import com.example.cincuentazo.models.CardModel;
+import com.example.cincuentazo.models.GameEngine;
+import com.example.cincuentazo.models.HandModel;
+import com.example.cincuentazo.models.PackedState;
+import com.example.cincuentazo.models.PlayerModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link GameEngine} operations that run on every turn.
+ *
+ * <p>Read-only operations are measured on a fixed mid-game position. Mutating
+ * operations keep playing the same game forward and restart it when it ends.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    /** Number of turns played before the mid-game position is frozen */
+    private static final int OPENING_TURNS = 12;
+
+    /**
+     * A fixed mid-game position for the read-only benchmarks.
+     */
+    @State(Scope.Thread)
+    public static class MidGame {
+        @Param({"2", "4"})
+        public int players;
+
+        GameEngine engine;
+        PlayerModel current;
+        PackedState packed = new PackedState();
+        PackedState copy = new PackedState();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            engine = new GameEngine(new SplittableRandom(7));
+            engine.startGame(players, false);
+            for (int i = 0; i < OPENING_TURNS && engine.playCpuTurn(); i++) {
+                // advance to a representative position
+            }
+            current = engine.currentPlayer();
+            engine.pack(packed);
+        }
+    }
+
+    /**
+     * A game that is played forward by the mutating benchmarks.
+     */
+    @State(Scope.Thread)
+    public static class Running {
+        @Param({"2", "4"})
+        public int players;
+
+        GameEngine engine;
+        int turns;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            engine = new GameEngine(new SplittableRandom(11));
+            restart();
+        }
+
+        void restart() {
+            engine.startGame(players, false);
+            turns = 0;
+        }
+    }
+
+    @Benchmark
+    public CardModel cpuChooseCard(MidGame s) {
+        return s.engine.cpuChooseCard(s.current);
+    }
+
+    @Benchmark
+    public boolean eliminateIfStuck(MidGame s) {
+        // The current player can play, so this measures the common "not stuck" check
+        return s.engine.eliminateIfStuck(s.current);
+    }
+
+    @Benchmark
+    public boolean hasWinner(MidGame s) {
+        return s.engine.hasWinner();
+    }
+
+    @Benchmark
+    public void refillIfNeeded(MidGame s) {
+        // The deck is not empty, so this measures the emptiness check done on every move
+        s.engine.refillIfNeeded();
+    }
+
+    @Benchmark
+    public PackedState pack(MidGame s) {
+        s.engine.pack(s.copy);
+        return s.copy;
+    }
+
+    @Benchmark
+    public PackedState copyPackedState(MidGame s) {
+        s.copy.copyFrom(s.packed);
+        return s.copy;
+    }
+
+    @Benchmark
+    public long hashPackedState(MidGame s) {
+        return s.packed.hash64();
+    }
+
+    /**
+     * Plays one full CPU turn (choose, apply or eliminate, next turn); finished games are restarted.
+     * With {@code -prof gc} this shows the per-turn allocation of the engine.
+     */
+    @Benchmark
+    public boolean playCpuTurn(Running s) {
+        if (s.turns >= 2_000 || !s.engine.playCpuTurn()) {
+            s.restart();
+            return false;
+        }
+        s.turns++;
+        return true;
+    }
+
+    /**
+     * Applies the first playable card of the current player and advances the turn.
+     * Players without a playable card are eliminated; finished games are restarted.
+     */
+    @Benchmark
+    public Object applyResult(Running s) {
+        GameEngine engine = s.engine;
+        if (engine.hasWinner() || s.turns >= 2_000) {
+            s.restart();
+        }
+
+        PlayerModel player = engine.currentPlayer();
+        HandModel hand = player.getHand();
+        CardModel card = null;
+        for (int i = 0; i < hand.size(); i++) {
+            if (engine.isPlayable(hand.get(i))) {
+                card = hand.get(i);
+                break;
+            }
+        }
+
+        Object result;
+        if (card == null) {
+            result = engine.eliminateIfStuck(player);
+        } else {
+            result = engine.applyResult(card);
+        }
+        if (!engine.hasWinner()) {
+            engine.nextTurn();
+        }
+        s.turns++;
+        return result;
+    }
+}
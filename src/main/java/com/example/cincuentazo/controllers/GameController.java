@@ -1,45 +1,82 @@
 package com.example.cincuentazo.controllers;
 
 import com.example.cincuentazo.models.*;
+import com.example.cincuentazo.views.CardImages;
 import com.example.cincuentazo.views.StartView;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.TilePane;
 import javafx.stage.Stage;
 
-import java.io.InputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 /**
  * The main controller for the card game.
  * <p>
  * Manages the interaction between the view (FXML) and the model (GameEngine, PlayerModel, CardModel).
  * Handles card selection, playing moves, updating player hands and the board state,
- * and managing CPU player turns via a dedicated thread.
+ * and managing CPU player turns via a {@link CpuTurnScheduler}.
+ * </p>
+ * <p>
+ * Updates coming from other threads are not posted one by one to the FX thread: they
+ * go to a {@link CoalescingExecutor} that runs each pending update once per pulse,
+ * from the latest snapshot, so a burst of CPU moves costs at most one repaint per frame.
+ * The snapshot is applied to an {@link ObservableGameState} and each view listens to its
+ * own properties, so a move only repaints the hand, card and counter that changed.
  * </p>
  */
 public class GameController {
 
-    private static final String CARDS_FOLDER = "/com/example/cincuentazo/assets/images/cards/";
-    private static final String BACK_IMAGE = CARDS_FOLDER + "back.png";
     private static final double HUMAN_WIDTH = 100;
     private static final double HUMAN_HEIGHT = 140;
     private static final double NPC_WIDTH = 80;
     private static final double NPC_HEIGHT = 112;
 
+    /** Search time of the CPU players per move, taken from their thinking delay */
+    private static final long CPU_SEARCH_MILLIS = 1_500;
+
+    /** Search time of each reply the CPU ponders while the human is deciding */
+    private static final long CPU_PONDER_MILLIS = 4_000;
+
+    /** Deals evaluated per card before the hint for the human is final */
+    private static final int HINT_SAMPLES = 2_000;
+
+    /** Trees of the search of each CPU move; one core is left to the FX thread */
+    private static final int SEARCH_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    /** Runs the search of the CPU move being played, and nothing else */
+    private static final ForkJoinPool SEARCH_POOL = newPool("cpu-search", SEARCH_THREADS, Thread.NORM_PRIORITY);
+
+    /**
+     * Runs the pondering and the hints. Being a separate, low-priority pool, its work
+     * never takes threads from the search of the move being played.
+     */
+    private static final ForkJoinPool BACKGROUND_POOL =
+            newPool("cpu-background", Math.max(1, SEARCH_THREADS / 2), Thread.MIN_PRIORITY);
+
     @FXML private StackPane playerTopPane, playerBottomPane, playerLeftPane, playerRightPane;
     @FXML private HBox playerTopHand, playerBottomHand;
     @FXML private TilePane playerLeftHand, playerRightHand;
-    @FXML private Label playerTopName, playerLeftName, playerRightName, playerBottomName, counterLabel;
+    @FXML private Label playerTopName, playerLeftName, playerRightName, playerBottomName, counterLabel, hintLabel;
     @FXML private ImageView deckImage, lastPlayedImage;
 
     private GameEngine gameEngine;
+    /** Single writer of {@link #gameEngine}: every move is submitted here as a command. */
+    private GameCommandQueue gameCommands;
     private int numberOfPlayers = 2;
 
     /** The card currently selected by the human player. */
@@ -47,8 +84,52 @@ public class GameController {
     /** The ImageView of the selected card (for visual effects). */
     private ImageView selectedCardView = null;
 
-    /** The single thread responsible for processing CPU turns. */
-    private CpuTurnsThread cpuThread;
+    /** The state on display; its listeners update the views. */
+    private ObservableGameState shownGame;
+
+    /**
+     * Cards each hand container accounts for, as card masks, so a refresh only repaints
+     * what changed. Includes the cards whose image is missing, which are not retried.
+     */
+    private final Map<javafx.scene.layout.Pane, Long> shownHands = new HashMap<>();
+    /** ImageViews of cards that left a hand, reused for the next cards shown. */
+    private final Deque<ImageView> cardViewPool = new ArrayDeque<>();
+
+    /** Plays the CPU turns whenever the engine hands them the turn. */
+    private CpuTurnScheduler cpuScheduler;
+
+    /** Chooses the CPU cards, pondering the replies during the human's turn. */
+    private PonderingStrategy cpuStrategy;
+
+    /** Suggests a card to the human, evaluated in the background during their turn. */
+    private HintEngine hintEngine;
+    /** The latest estimate received from {@link #hintEngine}, or null. */
+    private volatile HintEngine.Hint latestHint;
+
+    /** Updates requested from other threads, run once per pulse by {@link #uiPulse}. */
+    private final CoalescingExecutor uiUpdates = new CoalescingExecutor();
+    /** Shows {@link #latestHint}; always the same instance so repeated hints coalesce. */
+    private final Runnable hintRefresh = this::showHint;
+    /** Runs the pending {@link #uiUpdates} on every pulse of the FX thread. */
+    private AnimationTimer uiPulse;
+
+    /**
+     * Creates a pool of daemon threads for the searches.
+     *
+     * @param name        Prefix of the thread names.
+     * @param parallelism Number of threads.
+     * @param priority    Priority of the threads.
+     * @return The pool.
+     */
+    private static ForkJoinPool newPool(String name, int parallelism, int priority) {
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            t.setName(name + "-" + t.getPoolIndex());
+            t.setDaemon(true);
+            t.setPriority(priority);
+            return t;
+        }, null, false);
+    }
 
     /**
      * Initializes the controller. This method is called after all FXML
@@ -57,12 +138,18 @@ public class GameController {
     @FXML
     public void initialize() {
         hideAllPlayers();
+        uiPulse = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                uiUpdates.flush();
+            }
+        };
     }
 
 
     /**
      * Sets the number of players and starts a new game.
-     * Initiates and starts the CPU turns thread if it is not already running.
+     * Stops the CPU scheduler of any previous game and starts a new one.
      *
      * @param playersCount The desired number of players (2 to 4).
      */
@@ -70,33 +157,53 @@ public class GameController {
         try {
             numberOfPlayers = Math.max(2, Math.min(playersCount, 4));
 
+            // Stop the CPU scheduler and the pondering of any previous game
+            stopCpuScheduler();
+
             // Initialize GameEngine and start the game
             gameEngine = new GameEngine();
+            cpuStrategy = new PonderingStrategy(
+                    new MctsSearch(CPU_SEARCH_MILLIS, SEARCH_THREADS, Integer.MAX_VALUE, System.nanoTime(), SEARCH_POOL),
+                    () -> new MctsSearch(CPU_PONDER_MILLIS, 1, Integer.MAX_VALUE, System.nanoTime(), BACKGROUND_POOL),
+                    BACKGROUND_POOL);
+            gameEngine.setCpuStrategy(cpuStrategy);
+            gameEngine.addTurnListener(cpuStrategy);
+            latestHint = null;
+            hintEngine = new HintEngine(BACKGROUND_POOL, HINT_SAMPLES, 12, System.nanoTime());
+            hintEngine.setListener(hint -> {
+                latestHint = hint;
+                uiUpdates.execute(hintRefresh);
+            });
+            gameEngine.addTurnListener(hintEngine);
             gameEngine.startGame(numberOfPlayers);
 
-            // Retrieve player names from the game engine
+            // From now on the engine is only modified through its command queue,
+            // owned by the shared CPU scheduler thread; the UI only reads its snapshots
+            gameCommands = new GameCommandQueue(gameEngine, CpuTurnScheduler.sharedScheduler());
+            GameSnapshot snapshot = gameEngine.snapshot();
+
+            // Retrieve player names from the snapshot
             List<String> names = new ArrayList<>();
-            for (PlayerModel p : gameEngine.getPlayers()) {
-                names.add(p.getName());
+            for (int seat = 0; seat < snapshot.playerCount(); seat++) {
+                names.add(snapshot.playerName(seat));
             }
 
             showPlayers(names);
-            refreshAllHands();
-            updateBoard();
-
-            // Start CPU thread if it doesn't exist or isn't running
-            if (cpuThread == null || !cpuThread.isAlive()) {
-                cpuThread = new CpuTurnsThread(
-                        gameEngine,
-                        () -> {
-                            refreshAllHands();
-                            updateBoard();
-                        },
-                        this::checkWinner,
-                        this::checkIfHumanCanPlay
-                );
-                cpuThread.start();
-            }
+            bindViews(snapshot.playerCount());
+            render();
+
+            // Runs until the game ends or is torn down (see stopCpuScheduler)
+            uiPulse.start();
+            cpuScheduler = new CpuTurnScheduler(
+                    gameCommands,
+                    SEARCH_POOL,
+                    uiUpdates,
+                    this::render,
+                    this::checkWinner,
+                    this::checkIfHumanCanPlay
+            );
+            cpuScheduler.setSearchMillis(CPU_SEARCH_MILLIS);
+            cpuScheduler.start();
         } catch (Exception e){
             AlertModel.warning("Error al iniciar el juego", "No se pudo inicializar el juego" );
         }
@@ -166,139 +273,222 @@ public class GameController {
     }
 
     /**
-     * Refreshes the display of all players' hands based on the current game state.
+     * Shows the latest published snapshot. Only the views whose data changed are
+     * updated, by the listeners set in {@link #bindViews(int)}.
+     */
+    private void render() {
+        if (gameEngine == null || shownGame == null) return;
+        shownGame.update(gameEngine.snapshot());
+    }
+
+    /**
+     * Creates the observable state of a new game and connects each view to its own
+     * properties: the counter to the table sum, the last played card, and each hand
+     * pane to the hand of its seat. The deck image never changes and is drawn here.
+     *
+     * @param playerCount Number of seats of the game.
      */
-    private void refreshAllHands() {
-        if (gameEngine == null) return;
-        List<PlayerModel> players = gameEngine.getPlayers();
-
-        // Human player (always index 0)
-        paintHand(playerBottomHand, players.get(0), true, HUMAN_WIDTH, HUMAN_HEIGHT);
-
-        // CPU players
-        if (numberOfPlayers == 2) {
-            paintHand(playerTopHand, players.get(1), false, NPC_WIDTH, NPC_HEIGHT);
-        } else if (numberOfPlayers == 3) {
-            paintHand(playerLeftHand,  players.get(1), false, NPC_WIDTH, NPC_HEIGHT);
-            paintHand(playerRightHand, players.get(2), false, NPC_WIDTH, NPC_HEIGHT);
-        } else if (numberOfPlayers == 4) {
-            paintHand(playerLeftHand,  players.get(1), false, NPC_WIDTH, NPC_HEIGHT);
-            paintHand(playerTopHand,   players.get(2), false, NPC_WIDTH, NPC_HEIGHT);
-            paintHand(playerRightHand, players.get(3), false, NPC_WIDTH, NPC_HEIGHT);
+    private void bindViews(int playerCount) {
+        shownGame = new ObservableGameState(playerCount);
+
+        if (deckImage != null) {
+            showCard(deckImage, null, false, HUMAN_WIDTH, HUMAN_HEIGHT);
+        }
+        if (counterLabel != null) {
+            counterLabel.textProperty().bind(shownGame.tableSumProperty().asString());
+        }
+        shownGame.lastPlayedProperty().addListener((obs, old, card) -> {
+            if (lastPlayedImage != null && card != null) {
+                showCard(lastPlayedImage, card, true, HUMAN_WIDTH, HUMAN_HEIGHT);
+            }
+        });
+
+        for (int seat = 0; seat < playerCount; seat++) {
+            javafx.scene.layout.Pane container = handContainer(seat, playerCount);
+            boolean human = seat == 0;
+            shownGame.handProperty(seat).addListener((obs, old, hand) -> paintHand(container, hand.longValue(), human,
+                    human ? HUMAN_WIDTH : NPC_WIDTH, human ? HUMAN_HEIGHT : NPC_HEIGHT));
         }
+
+        // The hint depends on whose turn it is and on the human's hand
+        shownGame.currentPlayerProperty().addListener((obs, old, seat) -> showHint());
+        shownGame.handProperty(0).addListener((obs, old, hand) -> showHint());
     }
 
     /**
-     * Draws a player's hand in the specified container.
+     * The pane that shows the hand of a seat, for the given number of players.
+     *
+     * @param seat        The seat; 0 is the human player.
+     * @param playerCount Number of players (2 to 4).
+     * @return The pane, or null if the seat is not shown.
+     */
+    private javafx.scene.layout.Pane handContainer(int seat, int playerCount) {
+        if (seat == 0) return playerBottomHand;
+        switch (playerCount) {
+            case 2:
+                return seat == 1 ? playerTopHand : null;
+            case 3:
+                return seat == 1 ? playerLeftHand : seat == 2 ? playerRightHand : null;
+            case 4:
+                return seat == 1 ? playerLeftHand : seat == 2 ? playerTopHand : seat == 3 ? playerRightHand : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Draws a hand in the specified container, in the order the cards were drawn.
+     * <p>
+     * The children of the container are the hand's cards in draw order. Only the cards
+     * that changed since the last refresh are touched: the ImageViews of the cards that
+     * left the hand go back to a pool and the new cards reuse them, at the end of the
+     * hand, so a move costs a couple of node changes instead of rebuilding every hand.
+     * </p>
      *
      * @param container The layout pane to display the cards in.
-     * @param player The PlayerModel whose hand to display.
+     * @param handMask The cards of the hand, as a card mask.
      * @param faceUp True if cards should show their face (human player), false otherwise.
      * @param width The desired width for each card image.
      * @param height The desired height for each card image.
      */
     private void paintHand(javafx.scene.layout.Pane container,
-                           PlayerModel player,
+                           long handMask,
                            boolean faceUp,
                            double width, double height) {
-        if (container == null || player == null) return;
+        if (container == null) return;
+
+        List<Node> children = container.getChildren();
+        long shown = shownHands.getOrDefault(container, 0L);
+
+        // Cards that left the hand; the others keep their place
+        if ((shown & ~handMask) != 0) {
+            for (int i = children.size() - 1; i >= 0; i--) {
+                if (children.get(i).getUserData() instanceof CardModel card
+                        && (handMask & CardMask.bit(card)) == 0) {
+                    releaseCardView((ImageView) children.remove(i));
+                }
+            }
+        }
 
-        container.getChildren().clear();
-        for (CardModel card : player.getHand().getCards()) {
-            ImageView cardImage = createCardImageView(card, faceUp, width, height);
-            if (cardImage != null) container.getChildren().add(cardImage);
+        // New cards go last, as drawn; cards that arrive together (the deal) go in card order
+        for (long m = handMask & ~shown; m != 0; m &= m - 1) {
+            ImageView cardImage = acquireCardView(CardModel.of(Long.numberOfTrailingZeros(m)), faceUp, width, height);
+            // A missing image was already reported by showCard; the card stays hidden
+            if (cardImage != null) children.add(cardImage);
         }
+        shownHands.put(container, handMask);
     }
 
     /**
-     * Updates the game board elements: the deck, the last played card, and the counter label.
+     * Shows the latest hint received for the human player.
      */
-    private void updateBoard() {
-        Image deckImg = loadImage(BACK_IMAGE, HUMAN_WIDTH, HUMAN_HEIGHT);
-        if (deckImage != null && deckImg != null) {
-            deckImage.setImage(deckImg);
-        }
+    private void showHint() {
+        GameSnapshot snapshot = shownGame != null ? shownGame.snapshot() : null;
+        if (snapshot != null) updateHint(snapshot);
+    }
 
-        CardModel lastPlayed = gameEngine.getLastPlayed();
-        if (lastPlayedImage != null && lastPlayed != null) {
-            Image face = loadImage(imagePathForCard(lastPlayed), HUMAN_WIDTH, HUMAN_HEIGHT);
-            if (face != null) lastPlayedImage.setImage(face);
+    /**
+     * Shows the card suggested to the human player, or clears the suggestion.
+     *
+     * @param snapshot The game state on display.
+     */
+    private void updateHint(GameSnapshot snapshot) {
+        if (hintLabel == null) return;
+
+        HintEngine.Hint hint = latestHint;
+        CardModel best = hint != null ? hint.best() : null;
+        // The estimate may arrive before or after the snapshot of its turn
+        if (best == null || !snapshot.isHumanTurn()
+                || snapshot.handMask(snapshot.currentPlayer()) != hint.handMask()) {
+            hintLabel.setText("");
+            return;
         }
 
-        if (counterLabel != null) {
-            counterLabel.setText(String.valueOf(gameEngine.getTableSum()));
-        }
+        long percent = Math.round(hint.winProbability(best) * 100);
+        hintLabel.setText("Sugerencia: " + best.rank + " de " + best.suit + " (" + percent + "% de ganar)");
     }
 
     /**
-     * Creates an ImageView for a given card model.
-     * Includes an event handler for card selection if the card is face up.
+     * Gets an ImageView for a given card model, from the pool when possible.
+     * Every view has the same click handler, which only selects cards of the human's hand.
      *
      * @param card The CardModel to display.
      * @param faceUp Whether the card should be shown face up or as a back image.
      * @param width The image width.
      * @param height The image height.
-     * @return An ImageView instance of the card, or null if image loading fails.
+     * @return An ImageView of the card, or null if image loading fails.
      */
-    private ImageView createCardImageView(CardModel card, boolean faceUp, double width, double height) {
-        String path = faceUp ? imagePathForCard(card) : BACK_IMAGE;
-        Image img = loadImage(path, width, height);
-        if (img == null) return null;
+    private ImageView acquireCardView(CardModel card, boolean faceUp, double width, double height) {
+        ImageView cardImage = cardViewPool.poll();
+        if (cardImage == null) {
+            ImageView created = new ImageView();
+            created.setOnMouseClicked(e -> onCardClicked(created));
+            cardImage = created;
+        }
+        if (!showCard(cardImage, card, faceUp, width, height)) {
+            cardViewPool.push(cardImage);
+            return null;
+        }
 
-        ImageView cardImage = new ImageView(img);
         cardImage.setFitWidth(width);
         cardImage.setFitHeight(height);
         cardImage.setPreserveRatio(true);
         cardImage.setUserData(card);
+        return cardImage;
+    }
 
-        // Listener only if the card is face up (human player's hand)
-        if (faceUp) {
-            cardImage.setOnMouseClicked(e -> {
-                // Only allow selection if it's the human's turn
-                if (gameEngine != null && gameEngine.currentPlayer() != null && gameEngine.currentPlayer().isHuman()) {
-                    selectCard(card, cardImage);
-                }
-            });
+    /**
+     * Returns the ImageView of a card that left its hand to the pool.
+     *
+     * @param cardImage The view, already removed from its container.
+     */
+    private void releaseCardView(ImageView cardImage) {
+        cardImage.getStyleClass().remove("selected-card");
+        if (cardImage == selectedCardView) {
+            selectedCardView = null;
+            selectedCard = null;
         }
-        return cardImage;
+        cardImage.setUserData(null);
+        cardViewPool.push(cardImage);
     }
 
     /**
-     * Generates the resource path for a card's face image.
+     * Selects the clicked card if it belongs to the human's hand and it's the human's turn.
      *
-     * @param card The CardModel.
-     * @return The resource path string.
+     * @param cardImage The clicked view.
      */
-    private String imagePathForCard(CardModel card) {
-        if (card == null || card.rank == null || card.suit == null) return BACK_IMAGE;
-
-        String rankCard = card.rank;
-        String suitCard;
-        switch (card.suit) {
-            case "picas":     suitCard = "P"; break;
-            case "corazones": suitCard = "C"; break;
-            case "diamantes": suitCard = "D"; break;
-            case "treboles":  suitCard = "T"; break;
-            default:          suitCard = card.suit; break;
+    private void onCardClicked(ImageView cardImage) {
+        if (cardImage.getParent() != playerBottomHand) return;
+        if (isHumanTurn() && cardImage.getUserData() instanceof CardModel card) {
+            selectCard(card, cardImage);
         }
-        return CARDS_FOLDER + rankCard + suitCard + ".png";
     }
 
     /**
-     * Loads an image resource from the application's classpath.
+     * Shows a card in an ImageView, as a viewport of the shared {@link CardImages} atlas
+     * of the given size.
      *
-     * @param resourcePath The path to the image resource.
+     * @param view The ImageView to update.
+     * @param card The card, if face up.
+     * @param faceUp Whether to show the face of the card or the back image.
      * @param width The desired width.
      * @param height The desired height.
-     * @return The loaded Image object, or null on failure.
+     * @return true if the card is shown, false if its image could not be loaded.
      */
-    private Image loadImage(String resourcePath, double width, double height) {
-        try (InputStream is = getClass().getResourceAsStream(resourcePath)) {
-            if (is == null) return null;
-            return new Image(is, width, height, true, true);
+    private boolean showCard(ImageView view, CardModel card, boolean faceUp, double width, double height) {
+        try {
+            CardImages.Atlas atlas = CardImages.atlas(width, height);
+            Rectangle2D viewport = faceUp ? atlas.face(card) : atlas.back();
+            if (viewport == null) {
+                AlertModel.warning("Error al cargar la imagen", "No se encontró la imagen de "
+                        + (faceUp ? card.rank + " de " + card.suit : "el reverso de las cartas"));
+                return false;
+            }
+            atlas.show(view, viewport);
+            return true;
         } catch (Exception e) {
-            AlertModel.warning("Error al cargar la imagen","Ha ocurrido un error al cargar la imagen" + resourcePath);
-            return null;
+            AlertModel.warning("Error al cargar la imagen","Ha ocurrido un error al cargar las imágenes de las cartas");
+            return false;
         }
     }
 
@@ -324,8 +514,8 @@ public class GameController {
     /**
      * Handles the FXML action for playing the currently selected card by the human player.
      * <p>
-     * Critical game logic changes are wrapped in a {@code synchronized(gameEngine)} block
-     * to prevent race conditions with the CPU turns thread.
+     * The move is submitted to the game's {@link GameCommandQueue}, so the FX thread never
+     * blocks on the CPU; the outcome is handled back on the FX thread.
      * </p>
      */
     @FXML
@@ -335,87 +525,138 @@ public class GameController {
             return;
         }
 
-        if (gameEngine == null) return;
+        if (gameEngine == null || gameCommands == null) return;
 
-        synchronized (gameEngine) {
-            // Validations: human turn and card in hand
-            if (!gameEngine.currentPlayer().isHuman()) {
-                AlertModel.warning("No es tu turno", "Espera a tu turno.");
-                return;
-            }
-            if (!gameEngine.currentPlayer().getHand().contains(selectedCard)) {
-                AlertModel.warning("Carta inválida", "La carta no está en tu mano.");
-                return;
-            }
+        // Validations: human turn and card in hand (validated again by the command)
+        GameSnapshot snapshot = gameEngine.snapshot();
+        if (!snapshot.isHumanTurn()) {
+            AlertModel.warning("No es tu turno", "Espera a tu turno.");
+            return;
+        }
+        if ((snapshot.handMask(snapshot.currentPlayer()) & CardMask.bit(selectedCard)) == 0) {
+            AlertModel.warning("Carta inválida", "La carta no está en tu mano.");
+            return;
+        }
+
+        CardModel card = selectedCard;
+        gameCommands.submit(engine -> {
+            if (!engine.currentPlayer().isHuman()) return null;
 
             // Attempt to apply the move
-            GameEngine.ApplyResult result = gameEngine.applyResult(selectedCard);
-            if (!result.ok()) {
-                AlertModel.warning("No se puede jugar la carta", result.message());
-                return;
-            }
+            GameEngine.ApplyResult result = engine.applyResult(card);
 
-            // Reset visual selection
-            selectedCard = null;
-            if (selectedCardView != null) {
-                selectedCardView.getStyleClass().remove("selected-card");
-            }
-            selectedCardView = null;
+            // Advance turn (a CPU receiving the turn gets its move scheduled)
+            if (result.ok()) engine.nextTurn();
+            return result;
+        }).whenComplete((result, error) -> Platform.runLater(() -> onHumanMoveApplied(result, error)));
+    }
 
-            //Update UI on FX Thread
-            refreshAllHands();
-            updateBoard();
+    /**
+     * Updates the UI once the human's move command has run.
+     *
+     * @param result The result of the move, or null if it was no longer the human's turn.
+     * @param error  The failure of the command, if any.
+     */
+    private void onHumanMoveApplied(GameEngine.ApplyResult result, Throwable error) {
+        if (error != null) {
+            AlertModel.warning("No se puede jugar la carta", "Ha ocurrido un error al jugar la carta");
+            return;
+        }
+        if (result == null) {
+            AlertModel.warning("No es tu turno", "Espera a tu turno.");
+            return;
+        }
+        if (!result.ok()) {
+            AlertModel.warning("No se puede jugar la carta", result.message());
+            return;
+        }
 
-            // Advance turn
-            gameEngine.nextTurn();
+        // Reset visual selection
+        selectedCard = null;
+        if (selectedCardView != null) {
+            selectedCardView.getStyleClass().remove("selected-card");
         }
-        // Check if the next player (if human) is stuck. CPU thread will handle CPU players.
-        if (gameEngine.currentPlayer().isHuman()) {
+        selectedCardView = null;
+
+        render();
+
+        // Check if the next player (if human) is stuck. The CPU scheduler handles CPU players.
+        if (isHumanTurn()) {
             checkIfHumanCanPlay();
         }
     }
 
     /**
      * Checks if the current human player has any playable cards.
-     * If not, the player is eliminated and game win conditions are checked.
+     * If not, the player is eliminated, the turn passes on and game win conditions are checked.
+     * The check and the elimination run as one command on the game's command queue.
      */
     private void checkIfHumanCanPlay() {
-        PlayerModel human = gameEngine.currentPlayer();
-
-        if (human == null || !human.isHuman()) return;
-
-        boolean hasPlayableCard = human.getHand().getCards()
-                .stream()
-                .anyMatch(card -> gameEngine.isPlayable(card));
-
-        if (!hasPlayableCard) {
-            synchronized (gameEngine) {
-                gameEngine.eliminateIfStuck(human);
-            }
-            AlertModel.warning("¡Has perdido!", "No tienes cartas jugables.");
+        if (gameCommands == null) return;
+
+        gameCommands.submit(engine -> {
+            PlayerModel human = engine.currentPlayer();
+            if (human == null || !human.isHuman() || engine.hasPlayableCard(human)) return false;
+
+            engine.eliminateIfStuck(human);
+            // Hand the turn to the remaining players so the game can go on
+            if (!engine.hasWinner()) engine.nextTurn();
+            return true;
+        }).thenAccept(eliminated -> {
+            if (eliminated) Platform.runLater(this::onHumanEliminated);
+        });
+    }
 
-            if (gameEngine.hasWinner()) {
-                PlayerModel winner = gameEngine.getWinner();
-                AlertModel.warning("¡Juego terminado!", winner.getName() + " haz ganado!");
-                if (cpuThread != null) cpuThread.requestStop();
-            }
-        }
+    /**
+     * Notifies the human player that they lost and checks whether the game is over.
+     */
+    private void onHumanEliminated() {
+        render();
+        AlertModel.warning("¡Has perdido!", "No tienes cartas jugables.");
+        checkWinner();
     }
 
     /**
      * Checks if a winner exists and displays the game over message.
      */
     private void checkWinner() {
-        if (gameEngine != null && gameEngine.hasWinner()) {
-            PlayerModel winner = gameEngine.getWinner();
-            AlertModel.warning("¡Juego terminado!", winner.getName() + " haz ganado!");
-            if (cpuThread != null) cpuThread.requestStop();
+        GameSnapshot snapshot = gameEngine != null ? gameEngine.snapshot() : null;
+        if (snapshot != null && snapshot.hasWinner()) {
+            AlertModel.warning("¡Juego terminado!", snapshot.playerName(snapshot.winner()) + " haz ganado!");
+            stopCpuScheduler();
+        }
+    }
+
+    /**
+     * Indicates if the latest snapshot gives the turn to the human player.
+     */
+    private boolean isHumanTurn() {
+        GameSnapshot snapshot = gameEngine != null ? gameEngine.snapshot() : null;
+        return snapshot != null && snapshot.isHumanTurn();
+    }
+
+    /**
+     * Stops the CPU turn scheduler, if one is running, cancels the CPU searches and
+     * the hint evaluation, and stops the UI pulse. Called whenever a game ends or is
+     * torn down; the next game starts the pulse again.
+     */
+    private void stopCpuScheduler() {
+        uiPulse.stop();
+        if (cpuScheduler != null) {
+            cpuScheduler.requestStop();
+            cpuScheduler = null;
+        }
+        if (cpuStrategy != null) {
+            cpuStrategy.cancel();
+        }
+        if (hintEngine != null) {
+            hintEngine.cancel();
         }
     }
 
     /**
      * Handles the action for the human player to fold (quit) the current game.
-     * It prompts for confirmation, stops the CPU thread, and returns to the start view.
+     * It prompts for confirmation, stops the CPU scheduler, and returns to the start view.
      *
      * @param e The ActionEvent from the UI.
      */
@@ -424,11 +665,8 @@ public class GameController {
         boolean ok = AlertModel.confirm("Confirmacion", "¿Deseas abandonar la partida?");
         if (ok) {
             try {
-                // Stop CPU thread
-                if (cpuThread != null) {
-                    cpuThread.requestStop();
-                    cpuThread = null;
-                }
+                // Stop CPU turns and the UI updates
+                stopCpuScheduler();
 
                 StartView startView = StartView.getInstance();
                 startView.show();
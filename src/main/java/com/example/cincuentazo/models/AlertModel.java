@@ -5,6 +5,8 @@ import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A utility class for displaying alerts in the UI.
@@ -12,10 +14,15 @@ import java.util.Optional;
  * These methods are designed to be used safely from any thread.
  * Warning alerts are non-blocking and scheduled using {@link Platform#runLater(Runnable)}
  * to prevent errors if called during animations or layout processing.
+ * A warning identical to one still pending or on screen is dropped, so repeated
+ * calls (e.g. from fast CPU turns) do not flood the FX event queue.
  * </p>
  */
 public final class AlertModel {
 
+    /** Title and content of the warnings posted and not closed yet. */
+    private static final Set<String> OPEN_WARNINGS = ConcurrentHashMap.newKeySet();
+
     private AlertModel() { /* utilitaria */ }
 
     /**
@@ -23,18 +30,23 @@ public final class AlertModel {
      * <p>
      * This method uses {@code Platform.runLater} + {@code Alert.show()} to avoid
      * the {@code IllegalStateException} that can occur when using {@code showAndWait()}
-     * during animations or layout processing.
+     * during animations or layout processing. It does nothing while the same warning
+     * is pending or on screen.
      * </p>
      *
      * @param title   The title of the alert window.
      * @param content The text content to display.
      */
     public static void warning(String title, String content) {
+        String key = title + '\n' + content;
+        if (!OPEN_WARNINGS.add(key)) return;
+
         Platform.runLater(() -> {
             Alert alert = new Alert(Alert.AlertType.WARNING);
             alert.setTitle(title);
             alert.setHeaderText(null);
             alert.setContentText(content);
+            alert.setOnHidden(event -> OPEN_WARNINGS.remove(key));
             alert.show();
         });
     }
@@ -0,0 +1,61 @@
+package com.example.cincuentazo.models;
+
+/**
+ * Helpers for sets of cards packed into a 64-bit mask.
+ *
+ * <p>Bit {@code i} of a mask represents the card with ordinal {@code i}
+ * (see {@link CardModel#ordinal}). Set bits can be visited without allocation:
+ * <pre>
+ * for (long m = mask; m != 0; m &amp;= m - 1) {
+ *     CardModel card = CardModel.of(Long.numberOfTrailingZeros(m));
+ * }
+ * </pre>
+ * </p>
+ */
+public final class CardMask {
+
+    /** Mask containing the 52 cards of the deck */
+    public static final long ALL = (1L << CardModel.DECK_SIZE) - 1;
+
+    private CardMask() { /* utilitaria */ }
+
+    /**
+     * Mask with only the given card set.
+     *
+     * @param ordinal The card ordinal.
+     * @return The single-bit mask.
+     */
+    public static long bit(int ordinal) {
+        return 1L << ordinal;
+    }
+
+    /**
+     * Mask with only the given card set.
+     *
+     * @param card The card.
+     * @return The single-bit mask.
+     */
+    public static long bit(CardModel card) {
+        return 1L << card.ordinal;
+    }
+
+    /**
+     * Cards that can be played when the table shows the given sum.
+     *
+     * @param sum The current table sum.
+     * @return Mask of every playable card.
+     */
+    public static long playable(int sum) {
+        return TransitionTable.legalMask(sum);
+    }
+
+    /**
+     * Number of cards in a mask.
+     *
+     * @param mask The card mask.
+     * @return The number of set bits.
+     */
+    public static int count(long mask) {
+        return Long.bitCount(mask);
+    }
+}
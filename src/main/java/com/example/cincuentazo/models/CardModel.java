@@ -3,6 +3,17 @@ package com.example.cincuentazo.models;
 import java.util.Arrays;
 import java.util.List;
 
+/**
+ * Model representing a single playing card.
+ *
+ * <p>Every card has a compact ordinal in {@code [0, 52)} computed as
+ * {@code suitCode * 13 + rankCode}. The 52 canonical instances are created once
+ * and shared by the deck, the hands and the engine through {@link #of(int)}, so
+ * starting a game allocates no card objects and value lookups are array reads.
+ * Cards built with the public constructor are equal to the canonical card with
+ * the same rank and suit.
+ * </p>
+ */
 public class CardModel {
 
     public static final List<String> RANKS = Arrays.asList(
@@ -13,48 +24,120 @@ public class CardModel {
             "picas", "corazones", "diamantes", "treboles"
     );
 
+    /** Number of cards in a full deck */
+    public static final int DECK_SIZE = 52;
+
+    /** Rank code of the Ace, the only card whose value depends on the table sum */
+    public static final int ACE = 0;
+
+    /** Base value of each rank, indexed by rank code (the Ace counts as 1 here) */
+    private static final int[] RANK_VALUES = {1, 2, 3, 4, 5, 6, 7, 8, 0, 10, -10, -10, -10};
+
+    /** Base value of each card, indexed by ordinal */
+    private static final int[] BASE_VALUES = new int[DECK_SIZE];
+
+    /** The canonical card instances, indexed by ordinal */
+    private static final CardModel[] CARDS = new CardModel[DECK_SIZE];
+
+    static {
+        for (int s = 0; s < SUITS.size(); s++) {
+            for (int r = 0; r < RANKS.size(); r++) {
+                CardModel card = new CardModel(RANKS.get(r), SUITS.get(s));
+                CARDS[card.ordinal] = card;
+                BASE_VALUES[card.ordinal] = RANK_VALUES[r];
+            }
+        }
+    }
+
     public final String rank;
     public final String suit;
 
+    /** Position of the rank in {@link #RANKS} */
+    public final int rankCode;
+
+    /** Position of the suit in {@link #SUITS} */
+    public final int suitCode;
+
+    /** Compact index of the card in {@code [0, DECK_SIZE)} */
+    public final int ordinal;
+
+    /**
+     * Creates a card. Prefer {@link #of(String, String)}, which returns the shared instance.
+     *
+     * @param rank One of {@link #RANKS}.
+     * @param suit One of {@link #SUITS}.
+     * @throws IllegalArgumentException if the rank or the suit is unknown.
+     */
     public CardModel(String rank, String suit) {
-        this.rank = rank;
-        this.suit = suit;
+        this.rankCode = RANKS.indexOf(rank);
+        this.suitCode = SUITS.indexOf(suit);
+        if (rankCode < 0) throw new IllegalArgumentException("Unknown rank: " + rank);
+        if (suitCode < 0) throw new IllegalArgumentException("Unknown suit: " + suit);
+        this.rank = RANKS.get(rankCode);
+        this.suit = SUITS.get(suitCode);
+        this.ordinal = suitCode * RANKS.size() + rankCode;
+    }
+
+    /**
+     * Returns the canonical card with the given ordinal.
+     *
+     * @param ordinal The card ordinal, in {@code [0, DECK_SIZE)}.
+     * @return The shared card instance.
+     */
+    public static CardModel of(int ordinal) {
+        return CARDS[ordinal];
+    }
+
+    /**
+     * Returns the canonical card with the given rank and suit.
+     *
+     * @param rank One of {@link #RANKS}.
+     * @param suit One of {@link #SUITS}.
+     * @return The shared card instance.
+     * @throws IllegalArgumentException if the rank or the suit is unknown.
+     */
+    public static CardModel of(String rank, String suit) {
+        int r = RANKS.indexOf(rank);
+        int s = SUITS.indexOf(suit);
+        if (r < 0 || s < 0) throw new IllegalArgumentException("Unknown card: " + rank + " " + suit);
+        return CARDS[s * RANKS.size() + r];
+    }
+
+    /**
+     * Base value of the card with the given ordinal (the Ace counts as 1).
+     *
+     * @param ordinal The card ordinal.
+     * @return The base value.
+     */
+    public static int baseValueOf(int ordinal) {
+        return BASE_VALUES[ordinal];
     }
 
     public int baseValue() {
-        if (rank == null) return 0;
-        switch (rank) {
-            case "2": return 2;
-            case "3": return 3;
-            case "4": return 4;
-            case "5": return 5;
-            case "6": return 6;
-            case "7": return 7;
-            case "8": return 8;
-            case "9": return 0;
-            case "10": return 10;
-            case "J": return -10;
-            case "Q": return -10;
-            case "K": return -10;
-            case "A": return 1;
-            default: return 0;
-        }
+        return BASE_VALUES[ordinal];
     }
 
     public int valueWhenPlayed(int currentSum) {
-        if ("A".equals(rank)) {
-            return (currentSum + 10 <= 50) ? 10 : 1;
-        }
-        return baseValue();
+        return TransitionTable.delta(currentSum, ordinal);
     }
 
     public boolean isPlayable(int currentSum) {
-        int v = valueWhenPlayed(currentSum);
-        return (currentSum + v) <= 50;
+        return TransitionTable.isLegal(currentSum, ordinal);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return o instanceof CardModel && ((CardModel) o).ordinal == ordinal;
+    }
+
+    @Override
+    public int hashCode() {
+        return ordinal;
     }
 
     @Override
     public String toString() {
-        return rank + (suit == null ? "" : " " + suit);
+        return rank + " " + suit;
     }
 }
@@ -0,0 +1,171 @@
+package com.example.cincuentazo.models;
+
+import java.util.Arrays;
+
+/**
+ * What each player knows about the cards, kept up to date by {@link GameEngine}.
+ *
+ * <p>Every player has seen the cards played (the discard pile and the card on the
+ * table) and the hands of the eliminated players, sent to the bottom of the deck;
+ * the tracker counts both per rank as the moves happen. What a given player has seen
+ * is that plus its own hand, counted from the hand's card mask, so every query for
+ * any player costs O(1) and a move updates a couple of counters, without walking the
+ * discard pile.
+ * </p>
+ *
+ * <p>The cards a player has not seen are the ones it could draw: the model is the
+ * same uniform pool of unseen cards that the searches deal from. When the discard pile
+ * is shuffled back into the deck its cards count as unseen again.
+ * </p>
+ */
+public final class CardTracker {
+
+    private static final int RANKS = CardModel.RANKS.size();
+    private static final int COPIES = CardModel.SUITS.size();
+
+    /** Cards of each rank, as card masks */
+    private static final long[] RANK_MASKS = new long[RANKS];
+
+    /** Ordinal of an Ace (any suit: they all play the same), for the transition lookups */
+    private static final int ACE_ORDINAL =
+            CardModel.of(CardModel.RANKS.get(CardModel.ACE), CardModel.SUITS.get(0)).ordinal;
+
+    /** Sum of the base values of the whole deck */
+    private static final int DECK_VALUE;
+
+    static {
+        int value = 0;
+        for (int ordinal = 0; ordinal < CardModel.DECK_SIZE; ordinal++) {
+            RANK_MASKS[ordinal % RANKS] |= CardMask.bit(ordinal);
+            value += CardModel.baseValueOf(ordinal);
+        }
+        DECK_VALUE = value;
+    }
+
+    // Cards played (discard pile and table) and buried (eliminated hands in the deck)
+    private final int[] played = new int[RANKS];
+    private final int[] buried = new int[RANKS];
+    private long buriedMask;
+    private int playedCount, buriedCount;
+    private int playedValue, buriedValue;
+
+    // ----- Updates, made by the engine -----
+
+    /**
+     * Forgets everything: no card has been seen.
+     */
+    void reset() {
+        Arrays.fill(played, 0);
+        Arrays.fill(buried, 0);
+        buriedMask = 0L;
+        playedCount = buriedCount = 0;
+        playedValue = buriedValue = 0;
+    }
+
+    /**
+     * A card was played on the table (the previous one stays seen, in the discard pile).
+     */
+    void onPlayed(CardModel card) {
+        played[card.rankCode]++;
+        playedCount++;
+        playedValue += card.baseValue();
+    }
+
+    /**
+     * A card was drawn from the deck; only matters if it was a buried one.
+     */
+    void onDrawn(CardModel card) {
+        long bit = CardMask.bit(card);
+        if ((buriedMask & bit) == 0) return;
+        buriedMask &= ~bit;
+        buried[card.rankCode]--;
+        buriedCount--;
+        buriedValue -= card.baseValue();
+    }
+
+    /**
+     * A card of an eliminated hand was sent to the bottom of the deck.
+     */
+    void onBuried(CardModel card) {
+        long bit = CardMask.bit(card);
+        if ((buriedMask & bit) != 0) return;
+        buriedMask |= bit;
+        buried[card.rankCode]++;
+        buriedCount++;
+        buriedValue += card.baseValue();
+    }
+
+    /**
+     * The discard pile was shuffled into the deck: only the card on the table stays seen.
+     *
+     * @param table The card on the table, or null.
+     */
+    void onRefill(CardModel table) {
+        Arrays.fill(played, 0);
+        playedCount = 0;
+        playedValue = 0;
+        if (table != null) onPlayed(table);
+    }
+
+    // ----- Queries -----
+
+    /**
+     * Number of cards of a rank the player has seen: played, buried or in its hand.
+     *
+     * @param player   The player.
+     * @param rankCode The rank, as an index of {@link CardModel#RANKS}.
+     * @return The count, in {@code [0, 4]}.
+     */
+    public int seen(PlayerModel player, int rankCode) {
+        long own = player.getHand().mask() & RANK_MASKS[rankCode];
+        return played[rankCode] + buried[rankCode] + Long.bitCount(own);
+    }
+
+    /**
+     * Number of cards of a rank the player has not seen.
+     */
+    public int unseen(PlayerModel player, int rankCode) {
+        return COPIES - seen(player, rankCode);
+    }
+
+    /**
+     * Number of cards the player has not seen, of any rank.
+     */
+    public int unseenCount(PlayerModel player) {
+        return CardModel.DECK_SIZE - playedCount - buriedCount - player.getHand().size();
+    }
+
+    /**
+     * Probability, for the player, that its next draw is of the given rank.
+     *
+     * @param player   The player.
+     * @param rankCode The rank, as an index of {@link CardModel#RANKS}.
+     * @return The probability, or 0 if the player has seen every card.
+     */
+    public double drawProbability(PlayerModel player, int rankCode) {
+        int unseen = unseenCount(player);
+        return unseen == 0 ? 0.0 : (double) unseen(player, rankCode) / unseen;
+    }
+
+    /**
+     * Expected value, for the player, of its next draw if it were played on the given
+     * sum (the Ace counts 10 when that fits).
+     *
+     * @param player   The player.
+     * @param tableSum The sum the card would be played on.
+     * @return The expected value, or 0 if the player has seen every card.
+     */
+    public double expectedDrawValue(PlayerModel player, int tableSum) {
+        int unseen = unseenCount(player);
+        if (unseen == 0) return 0.0;
+
+        int value = DECK_VALUE - playedValue - buriedValue;
+        for (long m = player.getHand().mask(); m != 0; m &= m - 1) {
+            value -= CardModel.baseValueOf(Long.numberOfTrailingZeros(m));
+        }
+        // Unseen Aces are worth more than their base value when 10 fits
+        int aceBonus = TransitionTable.delta(tableSum, ACE_ORDINAL) - CardModel.baseValueOf(ACE_ORDINAL);
+        value += aceBonus * unseen(player, CardModel.ACE);
+        return (double) value / unseen;
+    }
+}
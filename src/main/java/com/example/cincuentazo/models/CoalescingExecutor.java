@@ -0,0 +1,75 @@
+package com.example.cincuentazo.models;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * Executor that collects UI updates and runs them once per frame.
+ *
+ * <p>{@link #execute} only records the task; a task that is already pending is not
+ * added again, so posting the same callback (e.g. the board refresh) a hundred times
+ * between two frames runs it once. The UI thread calls {@link #flush()} once per
+ * pulse (e.g. from an {@code AnimationTimer}) and the pending tasks run in the order
+ * they were first posted, reading the latest game state. Repaint work is then bounded
+ * by the frame rate instead of by the rate of game events.
+ * </p>
+ *
+ * <p>Tasks are matched by identity, so callers should post the same {@link Runnable}
+ * instance each time. {@link #execute} can be called from any thread.</p>
+ */
+public class CoalescingExecutor implements java.util.concurrent.Executor {
+
+    private final Object lock = new Object();
+
+    // Double buffer: tasks are posted to one list while the other one runs
+    private ArrayList<Runnable> pending = new ArrayList<>();
+    private ArrayList<Runnable> running = new ArrayList<>();
+
+    /**
+     * Schedules a task for the next flush, unless it is already pending.
+     *
+     * @param task The task.
+     */
+    @Override
+    public void execute(Runnable task) {
+        Objects.requireNonNull(task, "task");
+        synchronized (lock) {
+            for (int i = 0; i < pending.size(); i++) {
+                if (pending.get(i) == task) return;
+            }
+            pending.add(task);
+        }
+    }
+
+    /**
+     * Runs every pending task once. Tasks posted meanwhile wait for the next flush.
+     * A task that throws is reported to the thread's uncaught exception handler and
+     * does not prevent the others from running.
+     *
+     * @return The number of tasks run.
+     */
+    public int flush() {
+        ArrayList<Runnable> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) return 0;
+            batch = pending;
+            pending = running;
+            running = batch;
+        }
+
+        int count = batch.size();
+        try {
+            for (int i = 0; i < count; i++) {
+                try {
+                    batch.get(i).run();
+                } catch (RuntimeException e) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+        } finally {
+            batch.clear();
+        }
+        return count;
+    }
+}
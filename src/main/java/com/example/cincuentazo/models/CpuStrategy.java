@@ -0,0 +1,82 @@
+package com.example.cincuentazo.models;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Strategy used by a CPU player to choose its card.
+ *
+ * <p>The engine calls it from {@link GameEngine#playCpuTurn()} instead of the built-in
+ * greedy rule when one is set, for every CPU with
+ * {@link GameEngine#setCpuStrategy(CpuStrategy)} or for one seat with
+ * {@link GameEngine#setCpuStrategy(int, CpuStrategy)}. Implementations must only read
+ * the engine. The built-in strategies are {@link #greedy()}, {@link #random(RandomGenerator)},
+ * {@link ExpectimaxSearch} (look-ahead) and {@link MctsSearch}.</p>
+ */
+@FunctionalInterface
+public interface CpuStrategy {
+
+    /**
+     * Chooses the card the current player should play.
+     *
+     * @param engine The engine; only read.
+     * @param cpu    The current player.
+     * @return A playable card from the player's hand, or null if none can be played.
+     */
+    CardModel chooseCard(GameEngine engine, PlayerModel cpu);
+
+    /**
+     * Chooses the card of the current player in many positions at once, e.g. one per
+     * simulated table. Strategies with an expensive setup can override it to share that
+     * setup across the batch; by default every position is loaded into one scratch engine
+     * and passed to {@link #chooseCard}.
+     *
+     * @param positions The positions; only read.
+     * @param count     Number of positions to evaluate, from the first one.
+     * @param cards     Receives the ordinal of the chosen card of each position, or -1 if
+     *                  its current player cannot play any.
+     */
+    default void chooseCards(PackedState[] positions, int count, int[] cards) {
+        GameEngine scratch = new GameEngine();
+        for (int i = 0; i < count; i++) {
+            scratch.unpack(positions[i]);
+            CardModel card = chooseCard(scratch, scratch.currentPlayer());
+            cards[i] = card != null ? card.ordinal : -1;
+        }
+    }
+
+    /**
+     * Asks a {@link #chooseCard} call running on another thread to return as soon as
+     * possible, with the best card found so far. Strategies that answer immediately
+     * can ignore it.
+     */
+    default void cancel() {
+    }
+
+    /**
+     * The greedy rule of {@link GameEngine#cpuChooseCard(PlayerModel)}: the playable card
+     * that leaves the lowest sum.
+     *
+     * @return The strategy.
+     */
+    static CpuStrategy greedy() {
+        return GameEngine::cpuChooseCard;
+    }
+
+    /**
+     * Plays a random playable card, as a baseline for the other strategies.
+     *
+     * @param random The random source; the strategy is as thread-safe as it is.
+     * @return The strategy.
+     */
+    static CpuStrategy random(RandomGenerator random) {
+        return (engine, cpu) -> {
+            if (cpu == null || cpu.isEliminated()) return null;
+            long playable = cpu.getHand().mask() & TransitionTable.legalMask(engine.getTableSum());
+            if (playable == 0) return null;
+            for (int k = random.nextInt(Long.bitCount(playable)); k > 0; k--) {
+                playable &= playable - 1;
+            }
+            return CardModel.of(Long.numberOfTrailingZeros(playable));
+        };
+    }
+}
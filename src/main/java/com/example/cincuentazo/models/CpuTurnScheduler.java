@@ -0,0 +1,266 @@
+package com.example.cincuentazo.models;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays the CPU turns of a game when the engine hands them the turn.
+ *
+ * <ul>
+ * <li>Listens to the {@link GameEngine} turn events instead of polling it.</li>
+ * <li>When a CPU player gets the turn, its move is scheduled after a random 2-4 second
+ * "thinking" delay; nothing runs while the human is deciding.</li>
+ * <li>The move is chosen on the search executor, against a {@link PackedState} of the
+ * position loaded into a private engine, and only the chosen card is submitted to the
+ * game's {@link GameCommandQueue}, the only writer of the engine.</li>
+ * <li>UI callbacks are posted through the given executor (e.g. {@code Platform::runLater}).</li>
+ * </ul>
+ *
+ * <p>By default every game shares one daemon scheduler thread: since the searches run
+ * elsewhere, a game only needs it for the timers and for the few microseconds it takes
+ * to pack a position or commit a move. The same thread is a natural owner for the
+ * games' command queues (see {@link #sharedScheduler()}).</p>
+ */
+public class CpuTurnScheduler implements TurnListener {
+
+    /** Minimum simulated thinking time of a CPU player, in milliseconds */
+    public static final long MIN_THINK_MILLIS = 2_000;
+
+    /** Maximum simulated thinking time of a CPU player, in milliseconds */
+    public static final long MAX_THINK_MILLIS = 4_000;
+
+    private static final ScheduledExecutorService SHARED = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "cpu-turns");
+        // Set as daemon so it doesn't prevent the application from exiting
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final GameCommandQueue commands;
+    private final GameEngine engine;
+    private final ScheduledExecutorService scheduler;
+    private final Executor searchExecutor;
+    private final Executor uiExecutor;
+    private final Runnable uiRefresh;     // Callback to refresh hands and board on the FX thread
+    private final Runnable uiCheckWinner; // Callback to check for and display a winner on the FX thread
+    private final Runnable uiCheckHuman;  // Callback to check if the human player can play on the FX thread
+
+    // Volatile flag to safely request the scheduler to stop
+    private volatile boolean stop = false;
+
+    /** Part of the thinking delay the CPU strategy spends searching, in milliseconds */
+    private volatile long searchMillis = 0;
+
+    /** The CPU move waiting for its thinking delay, if any */
+    private volatile ScheduledFuture<?> pending;
+
+    /**
+     * The daemon scheduler thread shared by every game by default.
+     *
+     * @return The shared scheduler.
+     */
+    public static ScheduledExecutorService sharedScheduler() {
+        return SHARED;
+    }
+
+    /**
+     * Creates a CPU turn scheduler that uses the shared scheduler thread.
+     *
+     * @param commands       The command queue of the game.
+     * @param searchExecutor Executor that runs the CPU strategies.
+     * @param uiExecutor     Executor that runs the UI callbacks (e.g. {@code Platform::runLater}).
+     * @param uiRefresh      A {@link Runnable} that refreshes the UI.
+     * @param uiCheckWinner  A {@link Runnable} that checks for a winner.
+     * @param uiCheckHuman   A {@link Runnable} that checks the human player's state.
+     */
+    public CpuTurnScheduler(GameCommandQueue commands,
+                            Executor searchExecutor,
+                            Executor uiExecutor,
+                            Runnable uiRefresh,
+                            Runnable uiCheckWinner,
+                            Runnable uiCheckHuman) {
+        this(commands, SHARED, searchExecutor, uiExecutor, uiRefresh, uiCheckWinner, uiCheckHuman);
+    }
+
+    /**
+     * Creates a CPU turn scheduler that uses the given scheduler.
+     *
+     * @param commands       The command queue of the game.
+     * @param scheduler      The scheduler that runs the delayed CPU moves.
+     * @param searchExecutor Executor that runs the CPU strategies.
+     * @param uiExecutor     Executor that runs the UI callbacks.
+     * @param uiRefresh      A {@link Runnable} that refreshes the UI.
+     * @param uiCheckWinner  A {@link Runnable} that checks for a winner.
+     * @param uiCheckHuman   A {@link Runnable} that checks the human player's state.
+     */
+    public CpuTurnScheduler(GameCommandQueue commands,
+                            ScheduledExecutorService scheduler,
+                            Executor searchExecutor,
+                            Executor uiExecutor,
+                            Runnable uiRefresh,
+                            Runnable uiCheckWinner,
+                            Runnable uiCheckHuman) {
+        this.commands = commands;
+        this.engine = commands.engine();
+        this.scheduler = scheduler;
+        this.searchExecutor = searchExecutor;
+        this.uiExecutor = uiExecutor;
+        this.uiRefresh = uiRefresh;
+        this.uiCheckWinner = uiCheckWinner;
+        this.uiCheckHuman = uiCheckHuman;
+    }
+
+    /**
+     * Starts listening to the engine. If a CPU player already has the turn,
+     * its move is scheduled right away.
+     */
+    public void start() {
+        engine.addTurnListener(this);
+        commands.execute(e -> onTurnChanged(e, e.currentPlayer()));
+    }
+
+    /**
+     * Declares how long the engine's CPU strategy searches for each move. The move is
+     * submitted that much earlier, so the search uses the thinking delay instead of
+     * adding to it.
+     *
+     * @param searchMillis The search budget per move (at most {@link #MIN_THINK_MILLIS}).
+     */
+    public void setSearchMillis(long searchMillis) {
+        this.searchMillis = Math.max(0, Math.min(searchMillis, MIN_THINK_MILLIS));
+    }
+
+    /**
+     * Stops playing CPU turns: cancels the pending move and stops listening.
+     */
+    public void requestStop() {
+        stop = true;
+        engine.removeTurnListener(this);
+        ScheduledFuture<?> p = pending;
+        if (p != null) p.cancel(false);
+    }
+
+    /**
+     * Schedules the move of a CPU player when it receives the turn.
+     * Called by the command that changed the turn.
+     */
+    @Override
+    public void onTurnChanged(GameEngine engine, PlayerModel current) {
+        if (stop || current == null || current.isHuman() || engine.hasWinner()) return;
+
+        long delayMillis = ThreadLocalRandom.current().nextLong(MIN_THINK_MILLIS, MAX_THINK_MILLIS + 1)
+                - searchMillis;
+        pending = scheduler.schedule(this::submitTurn, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Plays the CPU's move once its thinking delay has elapsed.
+     * <p>
+     * The position is packed by a command, the strategy searches it on the search
+     * executor, and the chosen card is committed by a second command, so the owner
+     * thread of the queue is never busy searching. The move advances the turn, which
+     * schedules the next CPU move (if any) through {@link #onTurnChanged}. Once the
+     * move is committed and its snapshot published, the UI is refreshed and, depending
+     * on the new state, asked to show the winner or to check the human player.
+     * </p>
+     */
+    private void submitTurn() {
+        commands.submit(this::prepareTurn)
+                .thenApplyAsync(turn -> turn != null ? turn.search() : null, searchExecutor)
+                .thenCompose(turn -> turn != null
+                        ? commands.submit(e -> commitTurn(e, turn))
+                        : CompletableFuture.completedFuture(false))
+                .whenComplete((played, error) -> {
+            if (error != null) {
+                error.printStackTrace();
+                return;
+            }
+            if (!played) return;
+
+            // Published by the queue before the command was reported as finished
+            GameSnapshot snapshot = engine.snapshot();
+
+            // Update UI on the FX thread
+            uiExecutor.execute(uiRefresh);
+
+            if (snapshot.hasWinner()) {
+                uiExecutor.execute(uiCheckWinner);
+            } else if (snapshot.isHumanTurn()) {
+                // It's now the human's turn, request a check on their status
+                uiExecutor.execute(uiCheckHuman);
+            }
+        });
+    }
+
+    /**
+     * Command that packs the position of the current CPU player for its search.
+     *
+     * @param engine The engine, accessed from the command queue's owner thread.
+     * @return The turn to search, or null if no CPU move is due.
+     */
+    private Turn prepareTurn(GameEngine engine) {
+        // Re-check current player in case state changed
+        PlayerModel current = engine.currentPlayer();
+        if (stop || engine.hasWinner() || current == null || current.isHuman()) return null;
+
+        int seat = engine.currentSeat();
+        // An eliminated player only passes the turn, there is nothing to search
+        CpuStrategy strategy = current.isEliminated() ? null : engine.getCpuStrategy(seat);
+        return new Turn(engine.pack(), engine.zobristHash(), strategy);
+    }
+
+    /**
+     * Command that plays the card chosen by the search.
+     *
+     * @param engine The engine, accessed from the command queue's owner thread.
+     * @param turn   The searched turn.
+     * @return true if a move was made.
+     */
+    private boolean commitTurn(GameEngine engine, Turn turn) {
+        PlayerModel current = engine.currentPlayer();
+        if (stop || engine.hasWinner() || current == null || current.isHuman()) return false;
+
+        if (engine.zobristHash() == turn.hash) {
+            engine.playCpuTurn(turn.card);
+        } else {
+            // The position changed during the search: choose again, on this thread
+            engine.playCpuTurn();
+        }
+        return true;
+    }
+
+    /**
+     * A CPU turn: the position, then the card its strategy chose.
+     */
+    private static final class Turn {
+        final PackedState state;
+        final long hash;
+        final CpuStrategy strategy;
+        CardModel card;
+
+        Turn(PackedState state, long hash, CpuStrategy strategy) {
+            this.state = state;
+            this.hash = hash;
+            this.strategy = strategy;
+        }
+
+        /**
+         * Runs the strategy on a private engine loaded with the position.
+         *
+         * @return This turn, with its card chosen (null if the player cannot play).
+         */
+        Turn search() {
+            if (strategy != null) {
+                GameEngine position = new GameEngine();
+                position.unpack(state);
+                card = strategy.chooseCard(position, position.currentPlayer());
+            }
+            return this;
+        }
+    }
+}
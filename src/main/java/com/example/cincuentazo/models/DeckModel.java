@@ -1,60 +1,184 @@
 package com.example.cincuentazo.models;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Model representing a deck of cards
+ *
+ * <p>
+ * The cards live in a fixed ring buffer, so drawing from the top, pushing onto the
+ * top, adding to the bottom and checking emptiness are all O(1). The same class is
+ * used for the discard pile; {@link #refillFrom(DeckModel)} turns a discard pile into
+ * the new deck by swapping buffers instead of copying cards.
+ * </p>
  */
 public class DeckModel {
 
-    private final ArrayList<CardModel> cards = new ArrayList<>();
+    /** Ring buffer capacity: a power of two large enough for the whole deck */
+    private static final int CAPACITY = 64;
+    private static final int MASK = CAPACITY - 1;
+
+    private CardModel[] buffer = new CardModel[CAPACITY];
+
+    /** Buffer index of the bottom card */
+    private int bottom;
+
+    /** Number of cards in the deck */
+    private int count;
+
+    /** Random source used for shuffling. Each deck owns its own, so decks never share state */
+    private final RandomGenerator random;
 
     public DeckModel() {
-        // Create the 52 cards using the CardModel values
-        cards.clear();
-        for (String suit : CardModel.SUITS) {
-            for (String rank : CardModel.RANKS) {
-                cards.add(new CardModel(rank, suit));
-            }
+        this(new Random());
+    }
+
+    /**
+     * Creates a full, shuffled deck that uses the given random source.
+     *
+     * @param random The random generator used to shuffle this deck.
+     */
+    public DeckModel(RandomGenerator random) {
+        this.random = random;
+        reset();
+    }
+
+    private DeckModel(RandomGenerator random, boolean full) {
+        this.random = random;
+        if (full) reset();
+    }
+
+    /**
+     * Creates an empty pile (e.g. a discard pile) that uses the given random source.
+     *
+     * @param random The random generator used to shuffle this pile.
+     * @return An empty deck.
+     */
+    public static DeckModel empty(RandomGenerator random) {
+        return new DeckModel(random, false);
+    }
+
+    /**
+     * Refills the deck with the 52 shared card instances and shuffles it.
+     * No card objects are created.
+     */
+    public void reset() {
+        clear();
+        for (int ordinal = 0; ordinal < CardModel.DECK_SIZE; ordinal++) {
+            buffer[ordinal] = CardModel.of(ordinal);
         }
+        count = CardModel.DECK_SIZE;
         shuffle();
     }
 
     /**
-     * Shuffle the deck
+     * Shuffle the deck (in place, Fisher-Yates)
      */
     public void shuffle() {
-        Collections.shuffle(cards);
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int a = (bottom + i) & MASK;
+            int b = (bottom + j) & MASK;
+            CardModel tmp = buffer[a];
+            buffer[a] = buffer[b];
+            buffer[b] = tmp;
+        }
     }
 
     /**
      * Number of remaining cards
      */
     public int size() {
-        return cards.size();
+        return count;
     }
 
     /**
      * Indicates if the deck is empty
      */
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return count == 0;
     }
 
+    /**
+     * Removes every card from the deck
+     */
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            buffer[(bottom + i) & MASK] = null;
+        }
+        bottom = 0;
+        count = 0;
+    }
+
+    /**
+     * Puts a card under the bottom card of the deck
+     */
     public void addToBottom(CardModel card) {
-        cards.add(0, card);
+        ensureRoom();
+        bottom = (bottom - 1) & MASK;
+        buffer[bottom] = card;
+        count++;
     }
 
+    /**
+     * Puts a card on top of the deck (used for the discard pile)
+     */
+    public void addToTop(CardModel card) {
+        ensureRoom();
+        buffer[(bottom + count) & MASK] = card;
+        count++;
+    }
 
     /**
      * Takes the top card out of the deck
      */
     public CardModel draw() {
-        if (cards.isEmpty()) {
+        if (count == 0) {
             return null;
         }
-        return cards.remove(cards.size() - 1);
+        int top = (bottom + count - 1) & MASK;
+        CardModel card = buffer[top];
+        buffer[top] = null;
+        count--;
+        return card;
+    }
+
+    /**
+     * Returns the card at the given position without removing it (0 is the bottom card)
+     * If the index is invalid, returns null
+     */
+    public CardModel cardAt(int index) {
+        if (index < 0 || index >= count) return null;
+        return buffer[(bottom + index) & MASK];
+    }
+
+    /**
+     * Turns the given pile into this deck and shuffles it.
+     * <p>
+     * This deck must be empty. The buffers of both decks are swapped, so no card is
+     * copied; afterwards {@code pile} is empty.
+     * </p>
+     *
+     * @param pile The pile (usually the discard pile) whose cards become the deck.
+     * @throws IllegalStateException if this deck is not empty.
+     */
+    public void refillFrom(DeckModel pile) {
+        if (count != 0) throw new IllegalStateException("The deck is not empty");
+
+        CardModel[] emptyBuffer = buffer;
+        buffer = pile.buffer;
+        bottom = pile.bottom;
+        count = pile.count;
+
+        pile.buffer = emptyBuffer;
+        pile.bottom = 0;
+        pile.count = 0;
+
+        shuffle();
+    }
+
+    private void ensureRoom() {
+        if (count == CAPACITY) throw new IllegalStateException("The deck is full");
     }
 }
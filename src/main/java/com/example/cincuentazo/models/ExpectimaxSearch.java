@@ -0,0 +1,408 @@
+package com.example.cincuentazo.models;
+
+import java.util.Arrays;
+
+/**
+ * Look-ahead CPU strategy: an expectimax search over the draws and the opponents' moves.
+ *
+ * <p>The search only uses what the CPU can see: its own hand, the sum, the card on the
+ * table, the discard pile and the hand sizes. Every other card is "unseen" and may be
+ * in the deck or in an opponent's hand:
+ * <ul>
+ * <li>After its own move the CPU draws a random unseen card (chance node).</li>
+ * <li>Each opponent holds a random hand of unseen cards and plays like the greedy CPU
+ * ({@link GameEngine#cpuChooseCard}); the odds of each choice, and of being stuck,
+ * are hypergeometric (chance node).</li>
+ * </ul>
+ * Cards are grouped in value classes (the suit never matters and J, Q and K behave the
+ * same), so equivalent positions share one entry of the {@link TranspositionTable}.
+ * The refill of the deck from the discard pile is not modelled.
+ * </p>
+ *
+ * <p>The search deepens iteratively until its time budget runs out and plays the best
+ * move of the last finished depth. Without a budget ({@link #NO_TIME_LIMIT}) it always
+ * searches to its maximum depth, so its choices only depend on the position. An instance is not thread-safe, but several
+ * instances may share a table.
+ * </p>
+ */
+public class ExpectimaxSearch implements CpuStrategy {
+
+    /**
+     * Number of value classes: A, 2 to 8, 9, 10 and the figures. A class index is also
+     * the ordinal of a card of that class (in picas), used for the transition lookups.
+     */
+    public static final int CLASSES = 11;
+
+    /** Value class of each rank code */
+    private static final int[] CLASS_OF_RANK = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 10, 10};
+
+    /** Chance outcomes less likely than this are not explored */
+    private static final float MIN_PROBABILITY = 1e-3f;
+
+    /** Nodes between two checks of the clock */
+    private static final int CLOCK_MASK = 1023;
+
+    private static final float LOSS = 0f;
+    private static final float WIN = 1f;
+
+    private static final int MAX_DEPTH = 32;
+
+    /** Budget of a search limited by its depth only */
+    public static final long NO_TIME_LIMIT = 0;
+
+    private final TranspositionTable table;
+    private final int maxDepth;
+    private final long budgetNanos;
+
+    // Search state, updated in place and restored when returning from a branch
+    private final PackedState root = new PackedState();
+    private final int[] own = new int[CLASSES];
+    private final int[] unseen = new int[CLASSES];
+    private final int[] handSizes = new int[PackedState.MAX_PLAYERS];
+    private int ownSize;
+    private int unseenTotal;
+    private int sum;
+    private int eliminated;
+    private int players;
+    private int me;
+    private long hash;
+
+    /** Opponent choices in greedy order, one row per ply */
+    private final int[][] order = new int[MAX_DEPTH * (PackedState.MAX_PLAYERS + 1)][CLASSES];
+    private int ply;
+
+    private long nodes;
+    private long deadline;
+    private boolean aborted;
+
+    /** Set by {@link #cancel()} to stop the search in progress */
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a search.
+     *
+     * @param table        The cache of evaluated positions (may be shared).
+     * @param maxDepth     Maximum number of own moves to look ahead.
+     * @param budgetMillis Thinking time per move, or {@link #NO_TIME_LIMIT}.
+     */
+    public ExpectimaxSearch(TranspositionTable table, int maxDepth, long budgetMillis) {
+        this.table = table;
+        this.maxDepth = Math.max(1, Math.min(maxDepth, MAX_DEPTH - 1));
+        this.budgetNanos = budgetMillis * 1_000_000L;
+    }
+
+    /**
+     * Value class of a card (see {@link #CLASSES}).
+     *
+     * @param ordinal The card ordinal.
+     * @return The class, in {@code [0, CLASSES)}.
+     */
+    public static int classOf(int ordinal) {
+        return CLASS_OF_RANK[CardModel.of(ordinal).rankCode];
+    }
+
+    @Override
+    public CardModel chooseCard(GameEngine engine, PlayerModel cpu) {
+        if (cpu == null || cpu.isEliminated()) return null;
+        long playable = cpu.getHand().mask() & TransitionTable.legalMask(engine.getTableSum());
+        if (playable == 0) return null;
+        // A single distinct choice needs no search
+        if (singleClass(playable)) return CardModel.of(Long.numberOfTrailingZeros(playable));
+
+        load(engine);
+        table.newSearch();
+        nodes = 0;
+        aborted = false;
+        cancelled = false;
+        deadline = budgetNanos > 0 ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
+
+        int best = -1;
+        for (int depth = 1; depth <= maxDepth && !aborted; depth++) {
+            int bestAtDepth = searchRoot(depth);
+            if (!aborted) best = bestAtDepth;
+        }
+        if (best < 0) return engine.cpuChooseCard(cpu);
+
+        // Play the lowest card of the chosen class
+        for (long m = playable; m != 0; m &= m - 1) {
+            int ordinal = Long.numberOfTrailingZeros(m);
+            if (classOf(ordinal) == best) return CardModel.of(ordinal);
+        }
+        return engine.cpuChooseCard(cpu);
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Number of positions visited by the last call to {@link #chooseCard}.
+     */
+    public long nodes() {
+        return nodes;
+    }
+
+    private static boolean singleClass(long playable) {
+        int first = classOf(Long.numberOfTrailingZeros(playable));
+        for (long m = playable & (playable - 1); m != 0; m &= m - 1) {
+            if (classOf(Long.numberOfTrailingZeros(m)) != first) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Builds the CPU's view of the table.
+     */
+    private void load(GameEngine engine) {
+        engine.pack(root);
+        players = root.playerCount();
+        me = root.currentPlayer();
+        sum = root.tableSum();
+        eliminated = root.eliminatedBits();
+
+        long ownMask = root.handMask(me);
+        long seen = ownMask | root.discardMask();
+        if (root.lastPlayed() >= 0) seen |= CardMask.bit(root.lastPlayed());
+
+        Arrays.fill(own, 0);
+        Arrays.fill(unseen, 0);
+        for (int ordinal = 0; ordinal < CardModel.DECK_SIZE; ordinal++) {
+            long bit = CardMask.bit(ordinal);
+            if ((ownMask & bit) != 0) own[classOf(ordinal)]++;
+            else if ((seen & bit) == 0) unseen[classOf(ordinal)]++;
+        }
+        ownSize = Long.bitCount(ownMask);
+        unseenTotal = CardMask.count(CardMask.ALL & ~seen);
+        for (int seat = 0; seat < players; seat++) {
+            handSizes[seat] = Long.bitCount(root.handMask(seat));
+        }
+
+        hash = Zobrist.perspective(me) ^ Zobrist.sum(sum);
+        for (int seat = 0; seat < players; seat++) {
+            if ((eliminated & (1 << seat)) != 0) hash ^= Zobrist.eliminated(seat);
+        }
+        for (int c = 0; c < CLASSES; c++) {
+            hash ^= Zobrist.ownClass(c, own[c]) ^ Zobrist.unseenClass(c, unseen[c]);
+        }
+        ply = 0;
+    }
+
+    /**
+     * Evaluates every own move at the root.
+     *
+     * @return The best class, or -1 if the search was aborted.
+     */
+    private int searchRoot(int depth) {
+        int count = sortByDelta(own);
+        int[] choices = order[ply];
+        int best = -1;
+        float bestValue = -1f;
+        ply++;
+        for (int i = 0; i < count; i++) {
+            float v = afterOwnMove(choices[i], depth);
+            if (aborted) break;
+            // Greedy order: ties keep the lower final sum
+            if (v > bestValue) {
+                bestValue = v;
+                best = choices[i];
+            }
+        }
+        ply--;
+        if (!aborted) table.store(hash ^ Zobrist.turn(me), depth, bestValue, best);
+        return aborted ? -1 : best;
+    }
+
+    /**
+     * Value of the position for the searching player, with {@code turn} to play.
+     */
+    private float value(int turn, int depth) {
+        if ((eliminated & (1 << me)) != 0) return LOSS;
+        if ((eliminated | (1 << me)) == (1 << players) - 1) return WIN;
+        if (turn == me && depth == 0) return leaf();
+
+        if ((++nodes & CLOCK_MASK) == 0 && (System.nanoTime() > deadline || cancelled)) aborted = true;
+        if (aborted) return LOSS;
+
+        long key = hash ^ Zobrist.turn(turn);
+        long entry = table.probe(key);
+        if (entry != TranspositionTable.MISS && TranspositionTable.depth(entry) >= depth) {
+            return TranspositionTable.value(entry);
+        }
+
+        float v = turn == me ? ownNode(depth) : opponentNode(turn, depth);
+        if (!aborted) table.store(key, depth, v, -1);
+        return v;
+    }
+
+    private float ownNode(int depth) {
+        int count = sortByDelta(own);
+        if (count == 0) return LOSS;
+
+        int[] choices = order[ply];
+        float best = LOSS;
+        ply++;
+        for (int i = 0; i < count && !aborted; i++) {
+            best = Math.max(best, afterOwnMove(choices[i], depth));
+        }
+        ply--;
+        return best;
+    }
+
+    /**
+     * Plays a card of the class, then draws a random unseen card.
+     */
+    private float afterOwnMove(int c, int depth) {
+        int oldSum = sum;
+        setOwn(c, own[c] - 1);
+        setSum(TransitionTable.next(sum, c));
+        int next = nextSeat(me);
+
+        float v;
+        if (unseenTotal == 0) {
+            v = value(next, depth - 1);
+        } else {
+            float total = 0f;
+            float mass = 0f;
+            for (int d = 0; d < CLASSES && !aborted; d++) {
+                if (unseen[d] == 0) continue;
+                float p = (float) unseen[d] / unseenTotal;
+                if (p < MIN_PROBABILITY) continue;
+
+                setUnseen(d, unseen[d] - 1);
+                setOwn(d, own[d] + 1);
+                total += p * value(next, depth - 1);
+                setOwn(d, own[d] - 1);
+                setUnseen(d, unseen[d] + 1);
+                mass += p;
+            }
+            v = mass > 0f ? total / mass : leaf();
+        }
+
+        setSum(oldSum);
+        setOwn(c, own[c] + 1);
+        return v;
+    }
+
+    /**
+     * An opponent with a random hand of unseen cards plays greedily, or is stuck.
+     */
+    private float opponentNode(int seat, int depth) {
+        int h = Math.min(handSizes[seat], unseenTotal);
+        int count = sortByDelta(unseen);
+        int[] choices = order[ply];
+        int next = nextSeat(seat);
+        int oldSum = sum;
+
+        float total = 0f;
+        float mass = 0f;
+        float noneBefore = 1f;
+        int removed = 0;
+        ply++;
+        for (int i = 0; i < count && !aborted; i++) {
+            int c = choices[i];
+            removed += unseen[c];
+            // The opponent plays class c if it holds one and nothing the greedy rule prefers
+            float none = noneOf(removed, h);
+            float p = noneBefore - none;
+            noneBefore = none;
+            if (p < MIN_PROBABILITY) continue;
+
+            setUnseen(c, unseen[c] - 1);
+            setSum(TransitionTable.next(sum, c));
+            total += p * value(next, depth);
+            setSum(oldSum);
+            setUnseen(c, unseen[c] + 1);
+            mass += p;
+        }
+        ply--;
+
+        // No playable card in hand: the opponent is eliminated
+        float stuck = noneBefore;
+        if (stuck >= MIN_PROBABILITY && !aborted) {
+            eliminated |= 1 << seat;
+            hash ^= Zobrist.eliminated(seat);
+            total += stuck * value(nextSeat(seat), depth);
+            hash ^= Zobrist.eliminated(seat);
+            eliminated &= ~(1 << seat);
+            mass += stuck;
+        }
+        return mass > 0f ? total / mass : leaf();
+    }
+
+    /**
+     * Probability that a random hand of {@code h} unseen cards holds none of
+     * {@code excluded} given unseen cards.
+     */
+    private float noneOf(int excluded, int h) {
+        float p = 1f;
+        for (int i = 0; i < h; i++) {
+            int remaining = unseenTotal - excluded - i;
+            if (remaining <= 0) return 0f;
+            p *= (float) remaining / (unseenTotal - i);
+        }
+        return p;
+    }
+
+    /**
+     * Static evaluation with the searching player to move: the share of its hand it can
+     * play, split among the players still in the game.
+     */
+    private float leaf() {
+        if (ownSize == 0) return LOSS;
+        int legal = 0;
+        for (int c = 0; c < CLASSES; c++) {
+            if (own[c] > 0 && TransitionTable.isLegal(sum, c)) legal += own[c];
+        }
+        if (legal == 0) return LOSS;
+        int alive = players - Integer.bitCount(eliminated);
+        return (0.5f + 0.5f * legal / ownSize) / alive;
+    }
+
+    /**
+     * Writes the classes with cards in {@code counts} that are legal at the current sum
+     * into the order row of the current ply, lowest delta first (the greedy preference).
+     *
+     * @return The number of classes written.
+     */
+    private int sortByDelta(int[] counts) {
+        int[] row = order[ply];
+        int n = 0;
+        for (int c = 0; c < CLASSES; c++) {
+            if (counts[c] == 0 || !TransitionTable.isLegal(sum, c)) continue;
+            int delta = TransitionTable.delta(sum, c);
+            int i = n++;
+            while (i > 0 && TransitionTable.delta(sum, row[i - 1]) > delta) {
+                row[i] = row[i - 1];
+                i--;
+            }
+            row[i] = c;
+        }
+        return n;
+    }
+
+    private int nextSeat(int seat) {
+        for (int i = 1; i <= players; i++) {
+            int s = (seat + i) % players;
+            if ((eliminated & (1 << s)) == 0) return s;
+        }
+        return seat;
+    }
+
+    private void setOwn(int c, int count) {
+        hash ^= Zobrist.ownClass(c, own[c]) ^ Zobrist.ownClass(c, count);
+        ownSize += count - own[c];
+        own[c] = count;
+    }
+
+    private void setUnseen(int c, int count) {
+        hash ^= Zobrist.unseenClass(c, unseen[c]) ^ Zobrist.unseenClass(c, count);
+        unseenTotal += count - unseen[c];
+        unseen[c] = count;
+    }
+
+    private void setSum(int newSum) {
+        hash ^= Zobrist.sum(sum) ^ Zobrist.sum(newSum);
+        sum = newSum;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.cincuentazo.models;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Single-writer access to a {@link GameEngine}.
+ *
+ * <p>Every mutation of the engine (human moves, CPU moves, eliminations) is submitted
+ * as a command. Commands run one at a time, in submission order, on the backing
+ * executor; with a single-threaded executor that thread is the only one that ever
+ * writes to the engine, so no {@code synchronized(engine)} blocks are needed and the
+ * FX thread never waits for the CPU.
+ * </p>
+ *
+ * <p>After every command the engine publishes a {@link GameSnapshot}; readers render
+ * from {@link GameEngine#snapshot()} and never touch the engine itself.</p>
+ *
+ * <p>Several queues can share one backing executor: each queue still runs its own
+ * commands serially, which lets one thread own many engines.</p>
+ */
+public class GameCommandQueue {
+
+    private final GameEngine engine;
+    private final Executor backing;
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+
+    /** True while a drain of {@link #commands} is scheduled or running */
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    /**
+     * Creates a command queue for an engine and publishes its first snapshot.
+     *
+     * @param engine  The engine the commands operate on.
+     * @param backing The executor that runs the commands (ideally single-threaded).
+     */
+    public GameCommandQueue(GameEngine engine, Executor backing) {
+        this.engine = engine;
+        this.backing = backing;
+        engine.publishSnapshot();
+    }
+
+    /**
+     * The engine owned by this queue. It must only be modified through commands.
+     *
+     * @return The engine.
+     */
+    public GameEngine engine() {
+        return engine;
+    }
+
+    /**
+     * Submits a command and returns a future with its result.
+     *
+     * @param command The command to run against the engine.
+     * @param <T>     The type of the command's result.
+     * @return A future completed with the result, or exceptionally if the command failed.
+     */
+    public <T> CompletableFuture<T> submit(Function<GameEngine, T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        commands.add(() -> {
+            T result;
+            try {
+                result = command.apply(engine);
+            } catch (Throwable t) {
+                engine.publishSnapshot();
+                future.completeExceptionally(t);
+                return;
+            }
+            // The command is committed: publish before anyone is told it finished
+            engine.publishSnapshot();
+            future.complete(result);
+        });
+        scheduleDrain();
+        return future;
+    }
+
+    /**
+     * Submits a command whose result is not needed.
+     *
+     * @param command The command to run against the engine.
+     */
+    public void execute(Consumer<GameEngine> command) {
+        commands.add(() -> {
+            try {
+                command.accept(engine);
+            } catch (Exception ex) {
+                ex.printStackTrace();
+            }
+            engine.publishSnapshot();
+        });
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            backing.execute(this::drain);
+        }
+    }
+
+    /**
+     * Runs the queued commands in order, then releases the queue.
+     * The atomic flag gives each drain a happens-before edge with the previous one,
+     * so engine state written by one command is visible to the next.
+     */
+    private void drain() {
+        Runnable command;
+        while ((command = commands.poll()) != null) {
+            command.run();
+        }
+        draining.set(false);
+        // A command may have been added after the last poll but before the flag was cleared
+        if (!commands.isEmpty()) scheduleDrain();
+    }
+}
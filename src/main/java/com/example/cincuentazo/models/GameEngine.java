@@ -1,6 +1,7 @@
 package com.example.cincuentazo.models;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * The game engine responsible for managing the state of a "Cincuentazo" game.
@@ -23,10 +24,10 @@ public class GameEngine {
     public static final int MAX_SUM = 50;
 
     /** The main deck from which cards are drawn */
-    private DeckModel deck;
+    private final DeckModel deck;
 
     /** The discard pile (stack). The top card is the most recently discarded one */
-    private final Deque<CardModel> discard;
+    private final DeckModel discard;
 
     /** List of players in the game. Index 0 is the human player */
     private final List<PlayerModel> players;
@@ -40,13 +41,64 @@ public class GameEngine {
     /** The current sum of values on the table */
     private int tableSum;
 
+    /** Number of players that are not eliminated */
+    private int activePlayers;
+
+    /** The only remaining player, or null while the game is undecided */
+    private PlayerModel winner;
+
+    /** Listeners notified on every turn change (copy-on-write array, read without locking) */
+    private volatile TurnListener[] turnListeners = new TurnListener[0];
+
+    /** Guards updates of {@link #turnListeners} */
+    private final Object listenerLock = new Object();
+
+    /** Latest published snapshot; read by any thread without locking */
+    private volatile GameSnapshot snapshot;
+
+    /** Number of snapshots published so far */
+    private long snapshotVersion;
+
+    /** Player names of the current game, shared by its snapshots */
+    private String[] playerNames = new String[0];
+
+    /** Zobrist hash of the position, updated incrementally by every move */
+    private long zobrist;
+
+    /** Cards seen by the players, updated incrementally by every move */
+    private final CardTracker tracker = new CardTracker();
+
+    /** Strategy used by the CPU players instead of the greedy rule, or null */
+    private CpuStrategy cpuStrategy;
+
+    /** Strategy of each seat, overriding {@link #cpuStrategy}; null entries use it */
+    private final CpuStrategy[] seatStrategies = new CpuStrategy[PackedState.MAX_PLAYERS];
+
+    /** Random source for every shuffle performed by this engine */
+    private final RandomGenerator random;
+
     /**
      * Constructor for the game engine
      * Initializes the data structures for players and discards
      */
     public GameEngine() {
+        this(new Random());
+    }
+
+    /**
+     * Constructor for a game engine with its own random source.
+     * <p>
+     * Engines that run concurrently (e.g. in a tournament) should each get their
+     * own generator so that shuffles never contend on shared state.
+     * </p>
+     *
+     * @param random The random generator used for the deck and discard shuffles.
+     */
+    public GameEngine(RandomGenerator random) {
+        this.random = Objects.requireNonNull(random, "random");
         this.players = new ArrayList<>();
-        this.discard = new ArrayDeque<>();
+        this.deck = DeckModel.empty(random);
+        this.discard = DeckModel.empty(random);
         this.currentPlayerIndex = 0;
         this.tableSum = 0;
         this.lastPlayed = null;
@@ -67,16 +119,26 @@ public class GameEngine {
      * @param numPlayers The total desired number of players (will be clamped to 2-4)
      */
     public void startGame(int numPlayers) {
-        int n = Math.max(2, Math.min(numPlayers, 4));
-        players.clear();
+        startGame(numPlayers, true);
+    }
 
-        // The first player is always the human
-        players.add(new PlayerModel("Tú", true));
-        for (int i = 1; i < n; i++) {
-            players.add(new PlayerModel("CPU" + i, false));
-        }
+    /**
+     * Initializes a new game, optionally without a human player.
+     * <p>
+     * When {@code withHuman} is false every seat is a CPU, which is what the
+     * headless simulator uses to play whole games without any UI.
+     * </p>
+     *
+     * @param numPlayers The total desired number of players (will be clamped to 2-4)
+     * @param withHuman  true to seat the human player at index 0, false for an all-CPU table
+     */
+    public void startGame(int numPlayers, boolean withHuman) {
+        int n = Math.max(2, Math.min(numPlayers, 4));
+        seatPlayers(n, withHuman);
+        activePlayers = n;
+        winner = null;
 
-        deck = new DeckModel();
+        deck.reset();
         discard.clear();
         lastPlayed = null;
         tableSum = 0;
@@ -92,11 +154,348 @@ public class GameEngine {
 
         // Place the starting card on the table
         lastPlayed = deck.draw();
+        tracker.reset();
         if (lastPlayed != null) {
-            tableSum = lastPlayed.valueWhenPlayed(0);
+            tableSum = TransitionTable.next(0, lastPlayed.ordinal);
+            tracker.onPlayed(lastPlayed);
         } else {
             tableSum = 0;
         }
+
+        zobrist = computeZobrist();
+        fireTurnChanged();
+    }
+
+    /**
+     * Replaces the players with {@code n} new ones attached to this engine.
+     *
+     * @param n         The number of seats.
+     * @param withHuman true to seat the human player at index 0.
+     */
+    private void seatPlayers(int n, boolean withHuman) {
+        for (PlayerModel p : players) {
+            p.setEngine(null);
+        }
+        players.clear();
+
+        if (withHuman) {
+            // The first player is always the human
+            players.add(new PlayerModel("Tú", true));
+            for (int i = 1; i < n; i++) {
+                players.add(new PlayerModel("CPU" + i, false));
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                players.add(new PlayerModel("CPU" + (i + 1), false));
+            }
+        }
+
+        playerNames = new String[n];
+        for (int i = 0; i < n; i++) {
+            players.get(i).setEngine(this);
+            playerNames[i] = players.get(i).getName();
+        }
+    }
+
+    /**
+     * Encodes the current state into a new {@link PackedState}.
+     *
+     * @return The packed state.
+     */
+    public PackedState pack() {
+        PackedState state = new PackedState();
+        pack(state);
+        return state;
+    }
+
+    /**
+     * Encodes the current state into an existing {@link PackedState}, without allocating.
+     *
+     * @param target The state to overwrite.
+     */
+    public void pack(PackedState target) {
+        target.clear();
+        int n = players.size();
+        int eliminatedBits = 0;
+        int humanBits = 0;
+        for (int i = 0; i < n; i++) {
+            PlayerModel p = players.get(i);
+            target.setHand(i, p.getHand().mask());
+            if (p.isEliminated()) eliminatedBits |= 1 << i;
+            if (p.isHuman()) humanBits |= 1 << i;
+        }
+
+        long discardMask = 0L;
+        for (int i = 0; i < discard.size(); i++) {
+            discardMask |= CardMask.bit(discard.cardAt(i));
+        }
+        target.setDiscard(discardMask);
+
+        int deckSize = deck.size();
+        for (int i = 0; i < deckSize; i++) {
+            target.setDeckCard(i, deck.cardAt(i).ordinal);
+        }
+
+        target.setMeta(tableSum, lastPlayed == null ? -1 : lastPlayed.ordinal,
+                eliminatedBits, humanBits, currentPlayerIndex, n, deckSize);
+    }
+
+    /**
+     * Loads a packed state into this engine.
+     * <p>
+     * The players are reused when the seats match, otherwise they are seated again.
+     * Hands are refilled in card order and the discard pile in ordinal order. Turn
+     * listeners are not notified and no snapshot is published: this is meant for
+     * searches that replay positions on a private engine.
+     * </p>
+     *
+     * @param state The state to load.
+     */
+    public void unpack(PackedState state) {
+        int n = state.playerCount();
+        boolean withHuman = state.isHuman(0);
+        if (players.size() != n || players.get(0).isHuman() != withHuman) {
+            seatPlayers(n, withHuman);
+        }
+
+        activePlayers = 0;
+        winner = null;
+        for (int i = 0; i < n; i++) {
+            PlayerModel p = players.get(i);
+            // Detached while restoring the flag, so the active count is rebuilt here
+            p.setEngine(null);
+            p.setEliminated(state.isEliminated(i));
+            p.setEngine(this);
+
+            HandModel hand = p.getHand();
+            hand.clear();
+            for (long m = state.handMask(i); m != 0; m &= m - 1) {
+                hand.add(CardModel.of(Long.numberOfTrailingZeros(m)));
+            }
+
+            if (!p.isEliminated()) {
+                activePlayers++;
+                winner = p;
+            }
+        }
+        if (activePlayers != 1) winner = null;
+
+        deck.clear();
+        for (int i = 0; i < state.deckSize(); i++) {
+            deck.addToTop(CardModel.of(state.deckCardAt(i)));
+        }
+        discard.clear();
+        for (long m = state.discardMask(); m != 0; m &= m - 1) {
+            discard.addToTop(CardModel.of(Long.numberOfTrailingZeros(m)));
+        }
+
+        int last = state.lastPlayed();
+        lastPlayed = last < 0 ? null : CardModel.of(last);
+        tableSum = state.tableSum();
+        currentPlayerIndex = state.currentPlayer();
+        zobrist = computeZobrist();
+
+        // Which deck cards were buried is not packed: they count as unseen
+        tracker.reset();
+        for (long m = state.discardMask(); m != 0; m &= m - 1) {
+            tracker.onPlayed(CardModel.of(Long.numberOfTrailingZeros(m)));
+        }
+        if (lastPlayed != null) tracker.onPlayed(lastPlayed);
+    }
+
+    /**
+     * Zobrist hash of the current position: hands, discard pile, card on the table, sum,
+     * current player and eliminated players. The deck order is not part of the hash.
+     * <p>
+     * Moves made through the engine update the hash with a few XORs; changes made
+     * directly on a hand are not tracked.
+     * </p>
+     *
+     * @return The position hash.
+     */
+    public long zobristHash() {
+        return zobrist;
+    }
+
+    /**
+     * Computes the Zobrist hash of the current position from scratch.
+     *
+     * @return The position hash.
+     */
+    long computeZobrist() {
+        long h = Zobrist.sum(tableSum) ^ Zobrist.turn(currentPlayerIndex);
+        for (int seat = 0; seat < players.size(); seat++) {
+            PlayerModel p = players.get(seat);
+            for (long m = p.getHand().mask(); m != 0; m &= m - 1) {
+                h ^= Zobrist.hand(seat, Long.numberOfTrailingZeros(m));
+            }
+            if (p.isEliminated()) h ^= Zobrist.eliminated(seat);
+        }
+        for (int i = 0; i < discard.size(); i++) {
+            h ^= Zobrist.discard(discard.cardAt(i).ordinal);
+        }
+        if (lastPlayed != null) h ^= Zobrist.lastPlayed(lastPlayed.ordinal);
+        return h;
+    }
+
+    /**
+     * Makes the CPU players choose their cards with the given strategy (e.g. a look-ahead
+     * search) instead of the greedy rule of {@link #cpuChooseCard(PlayerModel)}.
+     *
+     * @param strategy The strategy to use, or null to go back to the greedy rule.
+     */
+    public void setCpuStrategy(CpuStrategy strategy) {
+        this.cpuStrategy = strategy;
+    }
+
+    /**
+     * Makes the CPU at the given seat choose its cards with its own strategy, so players
+     * with different strategies can share a table. The assignment is kept across games.
+     *
+     * @param seat     The seat, in {@code [0, PackedState.MAX_PLAYERS)}.
+     * @param strategy The strategy of the seat, or null to use the one of every CPU.
+     */
+    public void setCpuStrategy(int seat, CpuStrategy strategy) {
+        seatStrategies[seat] = strategy;
+    }
+
+    /**
+     * Returns the strategy the CPU at the given seat plays with.
+     *
+     * @param seat The seat, in {@code [0, PackedState.MAX_PLAYERS)}.
+     * @return The strategy of the seat, the one of every CPU, or the greedy rule.
+     */
+    public CpuStrategy getCpuStrategy(int seat) {
+        CpuStrategy strategy = seatStrategies[seat] != null ? seatStrategies[seat] : cpuStrategy;
+        return strategy != null ? strategy : CpuStrategy.greedy();
+    }
+
+    /**
+     * Returns what the players have seen of the cards, to estimate their draws.
+     *
+     * @return The card tracker of this engine, updated by every move.
+     */
+    public CardTracker getCardTracker() {
+        return tracker;
+    }
+
+    /**
+     * Seat of the player whose turn it currently is.
+     */
+    int currentSeat() {
+        return currentPlayerIndex;
+    }
+
+    /**
+     * The player at the given seat, without the list wrapper of {@link #getPlayers()}.
+     */
+    PlayerModel player(int seat) {
+        return players.get(seat);
+    }
+
+    /**
+     * Seat of the winner, or -1 while the game is undecided.
+     */
+    int winnerSeat() {
+        return winner == null ? -1 : players.indexOf(winner);
+    }
+
+    /**
+     * Plays an already validated card for the current player and passes the turn,
+     * without allocating a result. Used by searches on private engines.
+     *
+     * @param card A playable card from the current player's hand.
+     */
+    void playAndPass(CardModel card) {
+        commitMove(currentPlayer(), card);
+        if (!hasWinner()) nextTurn();
+    }
+
+    /**
+     * Publishes an immutable snapshot of the current state.
+     * <p>
+     * Must be called by the thread that modifies the engine, at the end of a committed
+     * move (the {@link GameCommandQueue} does it after every command). Other threads then
+     * read it with {@link #snapshot()}.
+     * </p>
+     *
+     * @return The published snapshot.
+     */
+    public GameSnapshot publishSnapshot() {
+        int n = players.size();
+        long[] masks = new long[n];
+        int eliminatedBits = 0;
+        int humanBits = 0;
+        int winnerSeat = -1;
+        for (int i = 0; i < n; i++) {
+            PlayerModel p = players.get(i);
+            masks[i] = p.getHand().mask();
+            if (p.isEliminated()) eliminatedBits |= 1 << i;
+            if (p.isHuman()) humanBits |= 1 << i;
+            if (p == winner) winnerSeat = i;
+        }
+        GameSnapshot published = new GameSnapshot(++snapshotVersion, tableSum,
+                lastPlayed == null ? -1 : lastPlayed.ordinal, masks, eliminatedBits, humanBits,
+                currentPlayerIndex, winnerSeat, deck.size(), playerNames);
+        snapshot = published;
+        return published;
+    }
+
+    /**
+     * Returns the latest published snapshot. Safe to call from any thread.
+     *
+     * @return The snapshot, or null if none has been published yet.
+     */
+    public GameSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Registers a listener that is notified every time the turn is handed to a player
+     * (when a game starts and on every {@link #nextTurn()}).
+     *
+     * @param listener The listener to add.
+     */
+    public void addTurnListener(TurnListener listener) {
+        Objects.requireNonNull(listener, "listener");
+        synchronized (listenerLock) {
+            TurnListener[] current = turnListeners;
+            TurnListener[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = listener;
+            turnListeners = updated;
+        }
+    }
+
+    /**
+     * Removes a previously registered turn listener.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeTurnListener(TurnListener listener) {
+        synchronized (listenerLock) {
+            TurnListener[] current = turnListeners;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == listener) {
+                    TurnListener[] updated = new TurnListener[current.length - 1];
+                    System.arraycopy(current, 0, updated, 0, i);
+                    System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                    turnListeners = updated;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Notifies every turn listener that the current player has the turn.
+     */
+    private void fireTurnChanged() {
+        TurnListener[] listeners = turnListeners;
+        if (listeners.length == 0) return;
+        PlayerModel current = currentPlayer();
+        for (TurnListener listener : listeners) {
+            listener.onTurnChanged(this, current);
+        }
     }
 
     /**
@@ -138,11 +537,12 @@ public class GameEngine {
     /**
      * Indicates if there is a winner in the game.
      * A winner exists when exactly one non-eliminated player remains.
+     * The active player count is kept up to date on every elimination, so this is O(1).
      *
      * @return true if there is a single active player, false otherwise.
      */
     public boolean hasWinner() {
-        return players.stream().filter(p -> !p.isEliminated()).count() == 1;
+        return activePlayers == 1;
     }
 
     /**
@@ -151,8 +551,36 @@ public class GameEngine {
      * @return The winning PlayerModel, or null if there is no winner yet.
      */
     public PlayerModel getWinner() {
-        if (!hasWinner()) return null;
-        return players.stream().filter(p -> !p.isEliminated()).findFirst().orElse(null);
+        return winner;
+    }
+
+    /**
+     * Number of players that are not eliminated.
+     *
+     * @return The active player count.
+     */
+    public int getActivePlayers() {
+        return activePlayers;
+    }
+
+    /**
+     * Called by a seated {@link PlayerModel} whenever its eliminated flag changes.
+     * Updates the active player count and the winner reference.
+     *
+     * @param player The player whose flag changed.
+     */
+    void onEliminationChanged(PlayerModel player) {
+        activePlayers += player.isEliminated() ? -1 : 1;
+        zobrist ^= Zobrist.eliminated(players.indexOf(player));
+        winner = null;
+        if (activePlayers == 1) {
+            for (PlayerModel p : players) {
+                if (!p.isEliminated()) {
+                    winner = p;
+                    break;
+                }
+            }
+        }
     }
 
     /**
@@ -162,7 +590,17 @@ public class GameEngine {
      * @return true if the card can be played without exceeding MAX_SUM
      */
     public boolean isPlayable(CardModel card) {
-        return card != null && card.isPlayable(tableSum);
+        return card != null && TransitionTable.isLegal(tableSum, card.ordinal);
+    }
+
+    /**
+     * Checks if a player has at least one card that can be played at the current sum.
+     *
+     * @param player The player to check
+     * @return true if the player has a legal move
+     */
+    public boolean hasPlayableCard(PlayerModel player) {
+        return player != null && player.getHand().hasPlayable(tableSum);
     }
 
     /**
@@ -194,27 +632,42 @@ public class GameEngine {
         }
 
         // Validate that the card belongs to the current player
-        if (!player.getHand().getCards().contains(card)) {
+        if (!player.getHand().contains(card)) {
             return ApplyResult.invalid("La carta no pertenece a la mano del jugador actual");
         }
 
+        CardModel drawn = commitMove(player, card);
+        return ApplyResult.ok(tableSum, lastPlayed, drawn);
+    }
+
+    /**
+     * Performs an already validated move without allocating a result.
+     *
+     * @param player The player making the move.
+     * @param card   A playable card from the player's hand.
+     * @return The card drawn after the move, or null if none was available.
+     */
+    private CardModel commitMove(PlayerModel player, CardModel card) {
         // Move previous card to discard
         if (lastPlayed != null) {
-            discard.push(lastPlayed);
+            discard.addToTop(lastPlayed);
+            zobrist ^= Zobrist.lastPlayed(lastPlayed.ordinal) ^ Zobrist.discard(lastPlayed.ordinal);
         }
 
         // Apply the move
+        int newSum = TransitionTable.next(tableSum, card.ordinal);
+        zobrist ^= Zobrist.lastPlayed(card.ordinal) ^ Zobrist.sum(tableSum) ^ Zobrist.sum(newSum)
+                ^ Zobrist.hand(players.indexOf(player), card.ordinal);
         lastPlayed = card;
-        tableSum += card.valueWhenPlayed(tableSum);
+        tableSum = newSum;
         player.getHand().removeCard(card);
+        tracker.onPlayed(card);
 
         // Refill deck if necessary
         refillIfNeeded();
 
         // Draw a card to replenish the player's hand
-        CardModel drawn = drawFor(player);
-
-        return ApplyResult.ok(tableSum, lastPlayed, drawn);
+        return drawFor(player);
     }
 
     /**
@@ -226,12 +679,17 @@ public class GameEngine {
     public CardModel drawFor(PlayerModel player) {
         if (player == null) return null;
         CardModel c = deck.draw();
-        if (c != null) player.getHand().add(c);
+        if (c != null) {
+            player.getHand().add(c);
+            tracker.onDrawn(c);
+            int seat = players.indexOf(player);
+            if (seat >= 0) zobrist ^= Zobrist.hand(seat, c.ordinal);
+        }
         return c;
     }
 
     /**
-     * Advances the turn to the next non-eliminated player.
+     * Advances the turn to the next non-eliminated player and notifies the turn listeners.
      * If a winner exists (only one active), the turn does not change.
      */
     public void nextTurn() {
@@ -240,52 +698,102 @@ public class GameEngine {
         for (int i = 1; i <= n; i++) {
             int idx = (currentPlayerIndex + i) % n;
             if (!players.get(idx).isEliminated()) {
+                zobrist ^= Zobrist.turn(currentPlayerIndex) ^ Zobrist.turn(idx);
                 currentPlayerIndex = idx;
+                fireTurnChanged();
                 return;
             }
         }
     }
 
     /**
-     * Refills the deck from the discard pile (excluding the last visible card) if the deck is empty.
-     * Discarded cards are shuffled before being added to the deck.
+     * Plays a complete CPU turn for the current player.
+     *
+     * <p>Operations performed in order:
+     * <ol>
+     * <li>Chooses a card with the strategy of the seat (see {@link #getCpuStrategy(int)})</li>
+     * <li>Checks that the player holds the card and can play it</li>
+     * <li>Applies it, or eliminates the player if no card can be played</li>
+     * <li>Advances the turn if there is still no winner</li>
+     * </ol>
+     * </p>
+     *
+     * @return true if the game is still in progress after the turn.
+     * @throws IllegalStateException if the strategy chose a card the player cannot play;
+     *                               the engine is left unchanged.
      */
-    public void refillIfNeeded() {
-        if (!deckIsEmpty()) return;
-        if (discard.isEmpty()) return;
-
-        List<CardModel> pool = new ArrayList<>(discard);
-        discard.clear();
-        Collections.shuffle(pool);
+    public boolean playCpuTurn() {
+        if (hasWinner()) return false;
+        PlayerModel current = currentPlayer();
+        if (current == null || current.isHuman()) return true;
+
+        if (!current.isEliminated()) {
+            CpuStrategy strategy = seatStrategies[currentPlayerIndex] != null
+                    ? seatStrategies[currentPlayerIndex]
+                    : cpuStrategy;
+            CardModel chosen = strategy != null
+                    ? strategy.chooseCard(this, current)
+                    : cpuChooseCard(current);
+            if (chosen == null) {
+                // No playable cards
+                eliminateIfStuck(current);
+            } else {
+                // Strategies may be third-party code: check the card before any change
+                if (!current.getHand().contains(chosen) || !isPlayable(chosen)) {
+                    throw new IllegalStateException((strategy != null ? strategy : "The greedy rule")
+                            + " chose a card that cannot be played: " + chosen);
+                }
+                commitMove(current, chosen);
+            }
+        }
 
-        deckAddAllToBottom(pool);
+        if (hasWinner()) return false;
+        nextTurn();
+        return true;
     }
 
     /**
-     * Checks if the deck is empty.
-     * Implementation: Attempts to draw a card and return it (without losing it).
+     * Plays a complete CPU turn for the current player with a card chosen elsewhere,
+     * e.g. by {@link CpuStrategy#chooseCards} for many tables at once.
      *
-     * @return true if the deck is empty.
+     * @param chosen The card to play, or null if the player cannot play any.
+     * @return true if the game is still in progress after the turn.
+     * @throws IllegalArgumentException if the card is not a playable card of the player.
      */
-    private boolean deckIsEmpty() {
-        CardModel peek = deck.draw();
-        if (peek == null) return true;
+    public boolean playCpuTurn(CardModel chosen) {
+        if (hasWinner()) return false;
+        PlayerModel current = currentPlayer();
+        if (current == null || current.isHuman()) return true;
+
+        if (!current.isEliminated()) {
+            if (chosen == null) {
+                eliminateIfStuck(current);
+            } else {
+                if (!current.getHand().contains(chosen) || !isPlayable(chosen)) {
+                    throw new IllegalArgumentException("Not a playable card: " + chosen);
+                }
+                commitMove(current, chosen);
+            }
+        }
 
-        // Return the drawn card to the bottom of the deck to avoid modifying the state
-        deckAddAllToBottom(Collections.singletonList(peek));
-        return false;
+        if (hasWinner()) return false;
+        nextTurn();
+        return true;
     }
 
     /**
-     * Adds a list of cards to the bottom of the deck in the order received.
-     *
-     * @param cards The list of cards to add.
+     * Refills the deck from the discard pile (excluding the last visible card) if the deck is empty.
+     * The discard pile becomes the deck in O(1) and is shuffled in place.
      */
-    private void deckAddAllToBottom(List<CardModel> cards) {
-        if (cards == null || cards.isEmpty()) return;
-        for (CardModel c : cards) {
-            deck.addToBottom(c);
+    public void refillIfNeeded() {
+        if (!deck.isEmpty()) return;
+        if (discard.isEmpty()) return;
+
+        for (int i = 0; i < discard.size(); i++) {
+            zobrist ^= Zobrist.discard(discard.cardAt(i).ordinal);
         }
+        deck.refillFrom(discard);
+        tracker.onRefill(lastPlayed);
     }
 
     /**
@@ -303,14 +811,17 @@ public class GameEngine {
      */
     public boolean eliminateIfStuck(PlayerModel player) {
         if (player == null || player.isEliminated()) return false;
-        boolean hasPlayable = player.getHand().getCards()
-                .stream().anyMatch(c -> c.isPlayable(tableSum));
-        if (hasPlayable) return false;
+        if (player.getHand().hasPlayable(tableSum)) return false;
 
         // Send their cards to the bottom of the deck
-        List<CardModel> toReturn = new ArrayList<>(player.getHand().getCards());
-        player.getHand().getCards().clear();
-        deckAddAllToBottom(toReturn);
+        HandModel hand = player.getHand();
+        int seat = players.indexOf(player);
+        for (int i = 0; i < hand.size(); i++) {
+            deck.addToBottom(hand.get(i));
+            tracker.onBuried(hand.get(i));
+            if (seat >= 0) zobrist ^= Zobrist.hand(seat, hand.get(i).ordinal);
+        }
+        hand.clear();
 
         player.setEliminated(true);
         return true;
@@ -331,16 +842,16 @@ public class GameEngine {
         int bestFinal = Integer.MAX_VALUE;
         int bestDelta = Integer.MAX_VALUE;
 
-        for (CardModel c : cpu.getHand().getCards()) {
-            if (!c.isPlayable(tableSum)) continue;
-            int delta = c.valueWhenPlayed(tableSum);
+        long playable = cpu.getHand().mask() & TransitionTable.legalMask(tableSum);
+        for (long m = playable; m != 0; m &= m - 1) {
+            int ordinal = Long.numberOfTrailingZeros(m);
+            int delta = TransitionTable.delta(tableSum, ordinal);
             int finalSum = tableSum + delta;
-            if (finalSum > MAX_SUM) continue; // Safety check
 
             if (finalSum < bestFinal || (finalSum == bestFinal && delta < bestDelta)) {
                 bestFinal = finalSum;
                 bestDelta = delta;
-                best = c;
+                best = CardModel.of(ordinal);
             }
         }
         return best;
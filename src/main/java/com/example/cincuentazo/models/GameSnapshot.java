@@ -0,0 +1,112 @@
+package com.example.cincuentazo.models;
+
+/**
+ * Immutable, compact picture of a game at the end of a committed move.
+ *
+ * <p>Snapshots are published by {@link GameEngine#publishSnapshot()} through a volatile
+ * reference, so any thread (typically the FX thread) can render the whole table from
+ * one consistent state without locking the engine and without ever seeing a
+ * half-applied move. Hands are stored as card masks (see {@link CardMask}).
+ * </p>
+ */
+public final class GameSnapshot {
+
+    private final long version;
+    private final int tableSum;
+    private final int lastPlayed;
+    private final long[] handMasks;
+    private final int eliminatedBits;
+    private final int humanBits;
+    private final int currentPlayer;
+    private final int winner;
+    private final int deckSize;
+    private final String[] names;
+
+    GameSnapshot(long version, int tableSum, int lastPlayed, long[] handMasks, int eliminatedBits,
+                 int humanBits, int currentPlayer, int winner, int deckSize, String[] names) {
+        this.version = version;
+        this.tableSum = tableSum;
+        this.lastPlayed = lastPlayed;
+        this.handMasks = handMasks;
+        this.eliminatedBits = eliminatedBits;
+        this.humanBits = humanBits;
+        this.currentPlayer = currentPlayer;
+        this.winner = winner;
+        this.deckSize = deckSize;
+        this.names = names;
+    }
+
+    /**
+     * Sequence number of the snapshot; increases with every publication.
+     */
+    public long version() {
+        return version;
+    }
+
+    public int tableSum() {
+        return tableSum;
+    }
+
+    /**
+     * The card visible on the table, or null if there is none.
+     */
+    public CardModel lastPlayed() {
+        return lastPlayed < 0 ? null : CardModel.of(lastPlayed);
+    }
+
+    public int playerCount() {
+        return handMasks.length;
+    }
+
+    public String playerName(int seat) {
+        return names[seat];
+    }
+
+    public boolean isHuman(int seat) {
+        return (humanBits & (1 << seat)) != 0;
+    }
+
+    public boolean isEliminated(int seat) {
+        return (eliminatedBits & (1 << seat)) != 0;
+    }
+
+    /**
+     * Cards in the hand of the given seat, as a card mask.
+     */
+    public long handMask(int seat) {
+        return handMasks[seat];
+    }
+
+    public int handSize(int seat) {
+        return Long.bitCount(handMasks[seat]);
+    }
+
+    /**
+     * Seat of the player who has the turn.
+     */
+    public int currentPlayer() {
+        return currentPlayer;
+    }
+
+    /**
+     * Indicates if the player who has the turn is human.
+     */
+    public boolean isHumanTurn() {
+        return isHuman(currentPlayer);
+    }
+
+    public boolean hasWinner() {
+        return winner >= 0;
+    }
+
+    /**
+     * Seat of the winner, or -1 while the game is undecided.
+     */
+    public int winner() {
+        return winner;
+    }
+
+    public int deckSize() {
+        return deckSize;
+    }
+}
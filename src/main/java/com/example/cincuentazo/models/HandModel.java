@@ -1,31 +1,44 @@
 package com.example.cincuentazo.models;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * HandModel - Represents a simple hand of cards for a player.
  *
  * <p>
- * Internally uses an {@link java.util.ArrayList} to manage the cards.
- * Provides basic management methods for the hand: add, removeCard, removeAt,
- * getCards (returns a copy), size, clear, contains, and get.
+ * Internally keeps a 64-bit card mask (see {@link CardMask}) next to an
+ * {@link java.util.ArrayList} that preserves the order in which cards were received.
+ * The mask answers {@code contains} and "is there any playable card?" with a single
+ * bit operation. Provides basic management methods for the hand: add, removeCard,
+ * removeAt, getCards (returns a copy), view (read-only, no copy), forEach, size,
+ * clear, contains, and get.
+ * A hand holds at most one copy of each card.
  * </p>
  */
 public class HandModel {
 
     private final ArrayList<CardModel> cards = new ArrayList<CardModel>();
 
+    /** Read-only live view over {@link #cards}, created once */
+    private final List<CardModel> view = Collections.unmodifiableList(cards);
+
+    /** Bit {@code i} is set when the card with ordinal {@code i} is in the hand */
+    private long mask = 0L;
+
     public HandModel() {
         // Initial hand empty
     }
 
     /**
-     * Add a card to your hand. If the card is null, it does nothing
+     * Add a card to your hand. If the card is null or already in the hand, it does nothing
      */
     public void add(CardModel c) {
-        if (c == null) return;
+        if (c == null || contains(c)) return;
         cards.add(c);
+        mask |= CardMask.bit(c);
     }
 
     /**
@@ -33,9 +46,10 @@ public class HandModel {
      * Return the card if it was removed, or null if it wasn't in the hand
      */
     public CardModel removeCard(CardModel c) {
-        if (c == null) return null;
-        boolean removed = cards.remove(c);
-        return removed ? c : null;
+        if (!contains(c)) return null;
+        cards.remove(c);
+        mask &= ~CardMask.bit(c);
+        return c;
     }
 
     /**
@@ -44,7 +58,9 @@ public class HandModel {
      */
     public CardModel removeAt(int index) {
         if (index < 0 || index >= cards.size()) return null;
-        return cards.remove(index);
+        CardModel removed = cards.remove(index);
+        mask &= ~CardMask.bit(removed);
+        return removed;
     }
 
     /**
@@ -55,6 +71,24 @@ public class HandModel {
         return new ArrayList<CardModel>(cards);
     }
 
+    /**
+     * Returns a read-only live view of the cards, without copying.
+     * The view reflects later changes to the hand, so it should not be kept
+     * while the hand is being modified.
+     */
+    public List<CardModel> view() {
+        return view;
+    }
+
+    /**
+     * Visits every card of the hand in order, without allocating
+     */
+    public void forEach(Consumer<? super CardModel> action) {
+        for (int i = 0; i < cards.size(); i++) {
+            action.accept(cards.get(i));
+        }
+    }
+
     /**
      * Returns the card in the index position without deleting it
      * If the index is invalid, it returns null
@@ -69,7 +103,21 @@ public class HandModel {
      */
     public boolean contains(CardModel c) {
         if (c == null) return false;
-        return cards.contains(c);
+        return (mask & CardMask.bit(c)) != 0;
+    }
+
+    /**
+     * Mask of the cards in the hand (bit {@code i} set for the card with ordinal {@code i})
+     */
+    public long mask() {
+        return mask;
+    }
+
+    /**
+     * Indicates if at least one card of the hand can be played at the given table sum
+     */
+    public boolean hasPlayable(int tableSum) {
+        return (mask & CardMask.playable(tableSum)) != 0;
     }
 
     /**
@@ -84,6 +132,7 @@ public class HandModel {
      */
     public void clear() {
         cards.clear();
+        mask = 0L;
     }
 
     @Override
@@ -0,0 +1,294 @@
+package com.example.cincuentazo.models;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Suggests a card to the human player ("suggest move").
+ *
+ * <p>Registered as a {@link TurnListener}, it starts evaluating as soon as the human gets
+ * the turn, on the background executor. Every card in the human's hand is ranked by its
+ * estimated win probability: the cards the human has not seen are dealt at random, the
+ * card is played and the game is finished with greedy play, many times over. Cards of the
+ * same value class (see {@link ExpectimaxSearch#CLASSES}) play alike, so they share one
+ * estimate, and all classes are tried on the same deals to compare them fairly.
+ * </p>
+ *
+ * <p>The estimate is refined in rounds; after each round the current {@link Hint} is
+ * cached under the human's {@link PackedState#observerKey(int) observation} and handed to
+ * the listener, which receives null when the human's turn ends. A position evaluated
+ * before is answered from the cache at once, and an unfinished evaluation resumes from
+ * its cached counts.
+ * </p>
+ */
+public class HintEngine implements TurnListener {
+
+    /** Deals evaluated per value class between two updates of the hint */
+    private static final int SAMPLES_PER_ROUND = 32;
+
+    /** Rollouts longer than this are scored as a draw among the remaining players */
+    private static final int MAX_ROLLOUT_TURNS = 200;
+
+    private static final int MOVES = ExpectimaxSearch.CLASSES;
+
+    /** Cards of each value class, as card masks */
+    private static final long[] CLASS_MASKS = new long[MOVES];
+
+    static {
+        for (int ordinal = 0; ordinal < CardModel.DECK_SIZE; ordinal++) {
+            CLASS_MASKS[ExpectimaxSearch.classOf(ordinal)] |= CardMask.bit(ordinal);
+        }
+    }
+
+    private final Executor executor;
+    private final int maxSamples;
+    private final SplittableRandom random;
+
+    /** Listener of the hints of the current turn; called from the executor's threads */
+    private volatile Consumer<Hint> listener = hint -> { };
+
+    /** Evaluated positions, direct-mapped by observation key */
+    private final AtomicReferenceArray<Hint> cache;
+    private final int cacheMask;
+
+    /** Increased on every turn change; an evaluation stops when it is outdated */
+    private final AtomicLong turn = new AtomicLong();
+
+    /**
+     * Creates a hint engine.
+     *
+     * @param executor        Executor that runs the evaluations.
+     * @param maxSamples      Deals evaluated per value class before a hint is final.
+     * @param log2CacheSlots  Base-2 logarithm of the number of cached positions.
+     * @param seed            Seed of the random deals.
+     */
+    public HintEngine(Executor executor, int maxSamples, int log2CacheSlots, long seed) {
+        if (log2CacheSlots < 0 || log2CacheSlots > 20) {
+            throw new IllegalArgumentException("log2CacheSlots out of range: " + log2CacheSlots);
+        }
+        this.executor = executor;
+        this.maxSamples = Math.max(1, maxSamples);
+        this.random = new SplittableRandom(seed);
+        this.cache = new AtomicReferenceArray<>(1 << log2CacheSlots);
+        this.cacheMask = (1 << log2CacheSlots) - 1;
+    }
+
+    /**
+     * Sets the listener that receives the hint of the current turn every time it
+     * improves, and null when the human's turn ends. It is called from the executor's
+     * threads (or from the engine's thread, for cached hints).
+     *
+     * @param listener The listener.
+     */
+    public void setListener(Consumer<Hint> listener) {
+        this.listener = listener != null ? listener : hint -> { };
+    }
+
+    /**
+     * Starts evaluating when the turn is handed to the human player.
+     */
+    @Override
+    public void onTurnChanged(GameEngine engine, PlayerModel current) {
+        long id = turn.incrementAndGet();
+        if (current == null || !current.isHuman() || engine.hasWinner()) {
+            listener.accept(null);
+            return;
+        }
+
+        PackedState root = engine.pack();
+        int seat = engine.currentSeat();
+        long key = root.observerKey(seat);
+        Hint cached = cached(key);
+        if (cached != null) {
+            listener.accept(cached);
+            if (cached.samples >= maxSamples) return;
+        }
+
+        Hint start = cached != null ? cached : Hint.empty(key, root.handMask(seat), playable(root, seat));
+        SplittableRandom deals = random.split();
+        executor.execute(() -> evaluate(id, root, seat, start, deals));
+    }
+
+    /**
+     * Cancels the evaluation in progress, if any.
+     */
+    public void cancel() {
+        turn.incrementAndGet();
+    }
+
+    /**
+     * Returns the cached hint for the given position and seat, if any.
+     *
+     * @param state The position.
+     * @param seat  The seat that asks.
+     * @return The best hint found so far, or null if the position was not evaluated.
+     */
+    public Hint cachedHint(PackedState state, int seat) {
+        return cached(state.observerKey(seat));
+    }
+
+    private Hint cached(long key) {
+        Hint hint = cache.get((int) key & cacheMask);
+        return hint != null && hint.key == key ? hint : null;
+    }
+
+    private static long playable(PackedState state, int seat) {
+        return state.handMask(seat) & TransitionTable.legalMask(state.tableSum());
+    }
+
+    /**
+     * Refines the hint of one position until it is final or the turn changes.
+     */
+    private void evaluate(long id, PackedState root, int seat, Hint start, SplittableRandom deals) {
+        double[] wins = start.classWins.clone();
+        int samples = start.samples;
+        int moves = 0;
+        for (int c = 0; c < MOVES; c++) {
+            if ((start.playable & CLASS_MASKS[c]) != 0) moves |= 1 << c;
+        }
+
+        if (moves == 0) {
+            // Nothing to compare: the only move is to be eliminated
+            publish(id, new Hint(start.key, start.hand, 0L, wins, maxSamples));
+            return;
+        }
+
+        GameEngine engine = new GameEngine(deals);
+        PackedState world = new PackedState();
+        int[] pool = new int[CardModel.DECK_SIZE];
+
+        while (samples < maxSamples && turn.get() == id) {
+            int round = Math.min(SAMPLES_PER_ROUND, maxSamples - samples);
+            for (int i = 0; i < round; i++) {
+                world.determinize(root, seat, deals, pool);
+                for (int m = moves; m != 0; m &= m - 1) {
+                    int c = Integer.numberOfTrailingZeros(m);
+                    engine.unpack(world);
+                    engine.playAndPass(CardModel.of(Long.numberOfTrailingZeros(start.playable & CLASS_MASKS[c])));
+                    wins[c] += rollout(engine, seat);
+                }
+            }
+            samples += round;
+            publish(id, new Hint(start.key, start.hand, start.playable, wins.clone(), samples));
+        }
+    }
+
+    /**
+     * Caches a hint and hands it to the listener if its turn is still going on.
+     */
+    private void publish(long id, Hint hint) {
+        cache.set((int) hint.key & cacheMask, hint);
+        if (turn.get() == id) listener.accept(hint);
+    }
+
+    /**
+     * Finishes the game with greedy play and scores it for the given seat.
+     */
+    private static double rollout(GameEngine engine, int seat) {
+        for (int turns = 0; turns < MAX_ROLLOUT_TURNS && engine.playCpuTurn(); turns++) {
+            // playCpuTurn returns false once there is a winner
+        }
+        int winner = engine.winnerSeat();
+        if (winner >= 0) return winner == seat ? 1.0 : 0.0;
+        return engine.player(seat).isEliminated() ? 0.0 : 1.0 / engine.getActivePlayers();
+    }
+
+    /**
+     * Immutable estimate of the win probability of every card in the human's hand.
+     */
+    public static final class Hint {
+
+        private final long key;
+        private final long hand;
+        private final long playable;
+        private final double[] classWins;
+        private final int samples;
+
+        private Hint(long key, long hand, long playable, double[] classWins, int samples) {
+            this.key = key;
+            this.hand = hand;
+            this.playable = playable;
+            this.classWins = classWins;
+            this.samples = samples;
+        }
+
+        private static Hint empty(long key, long hand, long playable) {
+            return new Hint(key, hand, playable, new double[MOVES], 0);
+        }
+
+        /**
+         * Cards of the hand, as a card mask.
+         */
+        public long handMask() {
+            return hand;
+        }
+
+        /**
+         * Deals evaluated for each card so far.
+         */
+        public int samples() {
+            return samples;
+        }
+
+        /**
+         * Estimated probability of winning after playing the card: 0 for cards that
+         * cannot be played, and also for every card until the first round is done.
+         *
+         * @param card A card of the hand.
+         * @return The probability, in {@code [0, 1]}.
+         */
+        public double winProbability(CardModel card) {
+            if (samples == 0 || (playable & CardMask.bit(card)) == 0) return 0.0;
+            return classWins[ExpectimaxSearch.classOf(card.ordinal)] / samples;
+        }
+
+        /**
+         * The playable card with the highest estimate, or null if no card can be played
+         * or nothing was evaluated yet.
+         */
+        public CardModel best() {
+            if (samples == 0) return null;
+            CardModel best = null;
+            double bestRate = -1;
+            for (long m = playable; m != 0; m &= m - 1) {
+                CardModel card = CardModel.of(Long.numberOfTrailingZeros(m));
+                double rate = winProbability(card);
+                if (rate > bestRate) {
+                    bestRate = rate;
+                    best = card;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Cards of the hand from the best to the worst estimate; cards that cannot be
+         * played come last.
+         */
+        public CardModel[] ranking() {
+            CardModel[] cards = new CardModel[Long.bitCount(hand)];
+            int n = 0;
+            for (long m = hand; m != 0; m &= m - 1) {
+                cards[n++] = CardModel.of(Long.numberOfTrailingZeros(m));
+            }
+            // Insertion sort: a hand has a handful of cards
+            for (int i = 1; i < n; i++) {
+                CardModel card = cards[i];
+                int j = i - 1;
+                while (j >= 0 && score(cards[j]) < score(card)) {
+                    cards[j + 1] = cards[j];
+                    j--;
+                }
+                cards[j + 1] = card;
+            }
+            return cards;
+        }
+
+        private double score(CardModel card) {
+            return (playable & CardMask.bit(card)) == 0 ? -1.0 : winProbability(card);
+        }
+    }
+}
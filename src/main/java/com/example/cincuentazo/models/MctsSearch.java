@@ -0,0 +1,397 @@
+package com.example.cincuentazo.models;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * CPU strategy based on information-set Monte Carlo Tree Search (single observer).
+ *
+ * <p>Every iteration deals the cards the CPU has not seen (the opponents' hands and the
+ * deck) at random, consistently with what it has observed: its own hand, the discard
+ * pile, the card on the table and the hand sizes. The tree is then walked on that
+ * determinization, choosing among the moves that are legal in it with UCB1 weighted by
+ * how often each move was available. The game is finished with greedy rollouts and
+ * the result is propagated back, each node scoring the wins of the player who moved.
+ * Moves are value classes (see {@link ExpectimaxSearch#CLASSES}) plus "stuck".
+ * </p>
+ *
+ * <p>The search is root-parallel: each worker grows its own tree on its own private
+ * engine until the wall-clock budget runs out, and the root visit counts of all trees
+ * are added up to choose the move. Trees live in preallocated arrays and rollouts go
+ * through {@link GameEngine#playCpuTurn()}, so iterations do not allocate.
+ * </p>
+ */
+public class MctsSearch implements CpuStrategy {
+
+    /** Move of a player without playable cards */
+    private static final int STUCK = ExpectimaxSearch.CLASSES;
+
+    /** Cards of each value class, as card masks */
+    private static final long[] CLASS_MASKS = new long[ExpectimaxSearch.CLASSES];
+
+    static {
+        for (int ordinal = 0; ordinal < CardModel.DECK_SIZE; ordinal++) {
+            CLASS_MASKS[ExpectimaxSearch.classOf(ordinal)] |= CardMask.bit(ordinal);
+        }
+    }
+
+    /** UCB1 exploration constant */
+    private static final double EXPLORATION = 0.7;
+
+    /** Rollouts longer than this are scored as a draw among the remaining players */
+    private static final int MAX_ROLLOUT_TURNS = 200;
+
+    /** Tree nodes per worker */
+    private static final int NODES_PER_WORKER = 1 << 16;
+
+    private static final int MAX_PATH = 256;
+
+    /** Budget of a search limited by its iterations only, e.g. for reproducible simulations */
+    public static final long NO_TIME_LIMIT = 0;
+
+    private final long budgetNanos;
+    private final int maxIterations;
+    private final Worker[] workers;
+    private final Executor executor;
+
+    /** Position being searched, shared read-only by the workers */
+    private final PackedState root = new PackedState();
+
+    /** Set by {@link #cancel()} to stop the search in progress */
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a search that uses every core for the given time per move.
+     *
+     * @param budgetMillis Thinking time per move.
+     */
+    public MctsSearch(long budgetMillis) {
+        this(budgetMillis, Runtime.getRuntime().availableProcessors(), Integer.MAX_VALUE, System.nanoTime());
+    }
+
+    /**
+     * Creates a search.
+     *
+     * @param budgetMillis  Thinking time per move, or {@link #NO_TIME_LIMIT}.
+     * @param threads       Number of trees searched in parallel.
+     * @param maxIterations Maximum iterations per tree and move (e.g. for reproducible tests).
+     * @param seed          Seed of the workers' random generators.
+     */
+    public MctsSearch(long budgetMillis, int threads, int maxIterations, long seed) {
+        this(budgetMillis, threads, maxIterations, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a search whose extra trees run on the given executor. The calling thread
+     * grows the first tree and waits for the others, so the executor should have
+     * {@code threads - 1} threads free for the search to use its whole budget.
+     *
+     * @param budgetMillis  Thinking time per move, or {@link #NO_TIME_LIMIT}.
+     * @param threads       Number of trees searched in parallel.
+     * @param maxIterations Maximum iterations per tree and move (e.g. for reproducible tests).
+     * @param seed          Seed of the workers' random generators.
+     * @param executor      Executor that runs every tree but the first.
+     */
+    public MctsSearch(long budgetMillis, int threads, int maxIterations, long seed, Executor executor) {
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.maxIterations = Math.max(1, maxIterations);
+        this.workers = new Worker[Math.max(1, threads)];
+        this.executor = executor;
+
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker(random.split());
+        }
+    }
+
+    @Override
+    public CardModel chooseCard(GameEngine engine, PlayerModel cpu) {
+        if (cpu == null || cpu.isEliminated()) return null;
+        long playable = cpu.getHand().mask() & TransitionTable.legalMask(engine.getTableSum());
+        if (playable == 0) return null;
+
+        int best = -1;
+        if (actionsOf(playable) == Integer.lowestOneBit(actionsOf(playable))) {
+            // A single distinct choice needs no search
+            best = Integer.numberOfTrailingZeros(actionsOf(playable));
+        } else {
+            engine.pack(root);
+            cancelled = false;
+            long deadline = deadline();
+            search(deadline);
+            best = mostVisited(playable, workers);
+        }
+        return CardModel.of(Long.numberOfTrailingZeros(playable & CLASS_MASKS[best]));
+    }
+
+    /**
+     * Searches the positions in parallel, one per tree at a time, instead of growing
+     * every tree on the same position: each position gets the full time budget of one
+     * tree, and the trees and their engines are reused across the batch.
+     */
+    @Override
+    public void chooseCards(PackedState[] positions, int count, int[] cards) {
+        cancelled = false;
+        CompletableFuture<?>[] others = new CompletableFuture<?>[workers.length - 1];
+        for (int i = 1; i < workers.length; i++) {
+            int first = i;
+            others[i - 1] = CompletableFuture.runAsync(() -> chooseEach(first, positions, count, cards), executor);
+        }
+        chooseEach(0, positions, count, cards);
+        CompletableFuture.allOf(others).join();
+    }
+
+    /**
+     * Chooses the cards of the positions {@code first}, {@code first + workers}, ...
+     * with the tree of worker {@code first}.
+     */
+    private void chooseEach(int first, PackedState[] positions, int count, int[] cards) {
+        Worker w = workers[first];
+        for (int i = first; i < count; i += workers.length) {
+            PackedState position = positions[i];
+            int seat = position.currentPlayer();
+            long playable = position.isEliminated(seat) ? 0L
+                    : position.handMask(seat) & TransitionTable.legalMask(position.tableSum());
+            if (playable == 0) {
+                cards[i] = -1;
+                continue;
+            }
+
+            int actions = actionsOf(playable);
+            int best = Integer.numberOfTrailingZeros(actions);
+            if (actions != Integer.lowestOneBit(actions)) {
+                w.search(position, deadline(), maxIterations);
+                best = mostVisited(playable, w);
+            }
+            cards[i] = Long.numberOfTrailingZeros(playable & CLASS_MASKS[best]);
+        }
+    }
+
+    /**
+     * End of a search started now; never reached without a time budget.
+     */
+    private long deadline() {
+        return budgetNanos > 0 ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
+    }
+
+    /**
+     * The playable value class with the most root visits over the given trees.
+     */
+    private static int mostVisited(long playable, Worker... trees) {
+        int best = -1;
+        long bestVisits = -1;
+        for (int a = 0; a < ExpectimaxSearch.CLASSES; a++) {
+            if ((playable & CLASS_MASKS[a]) == 0) continue;
+            long visits = 0;
+            for (Worker w : trees) visits += w.rootVisits(a);
+            if (visits > bestVisits) {
+                bestVisits = visits;
+                best = a;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Number of iterations of the last search, over all trees.
+     */
+    public long iterations() {
+        long total = 0;
+        for (Worker w : workers) total += w.iterations;
+        return total;
+    }
+
+    private void search(long deadline) {
+        CompletableFuture<?>[] others = new CompletableFuture<?>[workers.length - 1];
+        for (int i = 1; i < workers.length; i++) {
+            Worker w = workers[i];
+            others[i - 1] = CompletableFuture.runAsync(() -> w.search(root, deadline, maxIterations), executor);
+        }
+        // The calling thread grows the first tree
+        workers[0].search(root, deadline, maxIterations);
+        CompletableFuture.allOf(others).join();
+    }
+
+    /**
+     * Moves available with the given playable cards, as a bit set over action indexes.
+     */
+    private static int actionsOf(long playable) {
+        if (playable == 0) return 1 << STUCK;
+        int actions = 0;
+        for (int a = 0; a < ExpectimaxSearch.CLASSES; a++) {
+            if ((playable & CLASS_MASKS[a]) != 0) actions |= 1 << a;
+        }
+        return actions;
+    }
+
+    /**
+     * One tree, its private engine and its random source.
+     */
+    private final class Worker {
+
+        private final SplittableRandom random;
+        private final GameEngine engine;
+        private final PackedState world = new PackedState();
+        private final int[] pool = new int[CardModel.DECK_SIZE];
+        private final int[] path = new int[MAX_PATH];
+
+        // Tree nodes, by index; node 0 is the root
+        private final int[] action = new int[NODES_PER_WORKER];
+        private final int[] mover = new int[NODES_PER_WORKER];
+        private final int[] firstChild = new int[NODES_PER_WORKER];
+        private final int[] nextSibling = new int[NODES_PER_WORKER];
+        private final int[] visits = new int[NODES_PER_WORKER];
+        private final int[] available = new int[NODES_PER_WORKER];
+        private final float[] reward = new float[NODES_PER_WORKER];
+        private int size;
+
+        private int me;
+        private long iterations;
+
+        Worker(SplittableRandom random) {
+            this.random = random;
+            this.engine = new GameEngine(random);
+        }
+
+        void search(PackedState root, long deadline, int maxIterations) {
+            me = root.currentPlayer();
+            size = 0;
+            newNode(-1, -1, -1);
+            iterations = 0;
+            do {
+                determinize(root);
+                iterate();
+                iterations++;
+            } while (iterations < maxIterations && System.nanoTime() < deadline && !cancelled);
+        }
+
+        int rootVisits(int a) {
+            for (int c = firstChild[0]; c >= 0; c = nextSibling[c]) {
+                if (action[c] == a) return visits[c];
+            }
+            return 0;
+        }
+
+        /**
+         * Deals the unseen cards at random and loads the result into the private engine.
+         */
+        private void determinize(PackedState root) {
+            world.determinize(root, me, random, pool);
+            engine.unpack(world);
+        }
+
+        private void iterate() {
+            int node = 0;
+            int depth = 0;
+            path[depth++] = node;
+
+            while (!engine.hasWinner() && depth < MAX_PATH) {
+                int seat = engine.currentSeat();
+                long legal = engine.currentPlayer().getHand().mask()
+                        & TransitionTable.legalMask(engine.getTableSum());
+                int actions = actionsOf(legal);
+
+                int untried = actions;
+                for (int c = firstChild[node]; c >= 0; c = nextSibling[c]) {
+                    int bit = 1 << action[c];
+                    if ((actions & bit) != 0) {
+                        available[c]++;
+                        untried &= ~bit;
+                    }
+                }
+
+                if (untried != 0 && size < NODES_PER_WORKER) {
+                    // Expand one untried move, then roll out
+                    int a = randomBit(untried);
+                    int child = newNode(node, a, seat);
+                    apply(a, legal);
+                    path[depth++] = child;
+                    break;
+                }
+
+                int child = select(node, actions);
+                if (child < 0) break;
+                apply(action[child], legal);
+                node = child;
+                path[depth++] = node;
+            }
+
+            // Greedy rollout
+            for (int turns = 0; turns < MAX_ROLLOUT_TURNS && engine.playCpuTurn(); turns++) {
+                // playCpuTurn returns false once there is a winner
+            }
+
+            int winner = engine.winnerSeat();
+            float share = 1f / engine.getActivePlayers();
+            for (int i = 0; i < depth; i++) {
+                int n = path[i];
+                visits[n]++;
+                int m = mover[n];
+                if (m < 0) continue;
+                if (winner >= 0) {
+                    if (winner == m) reward[n] += 1f;
+                } else if (!engine.player(m).isEliminated()) {
+                    reward[n] += share;
+                }
+            }
+        }
+
+        /**
+         * UCB1 over the children whose move is legal in the current determinization,
+         * using their availability count instead of the parent's visits.
+         */
+        private int select(int node, int actions) {
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int c = firstChild[node]; c >= 0; c = nextSibling[c]) {
+                if ((actions & (1 << action[c])) == 0) continue;
+                double score = reward[c] / visits[c]
+                        + EXPLORATION * Math.sqrt(Math.log(available[c]) / visits[c]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = c;
+                }
+            }
+            return best;
+        }
+
+        private void apply(int a, long legal) {
+            if (a == STUCK) {
+                engine.eliminateIfStuck(engine.currentPlayer());
+                if (!engine.hasWinner()) engine.nextTurn();
+            } else {
+                engine.playAndPass(CardModel.of(Long.numberOfTrailingZeros(legal & CLASS_MASKS[a])));
+            }
+        }
+
+        private int newNode(int parent, int a, int seat) {
+            int n = size++;
+            action[n] = a;
+            mover[n] = seat;
+            firstChild[n] = -1;
+            visits[n] = 0;
+            available[n] = 1;
+            reward[n] = 0f;
+            if (parent >= 0) {
+                nextSibling[n] = firstChild[parent];
+                firstChild[parent] = n;
+            } else {
+                nextSibling[n] = -1;
+            }
+            return n;
+        }
+
+        private int randomBit(int bits) {
+            int k = random.nextInt(Integer.bitCount(bits));
+            for (; k > 0; k--) bits &= bits - 1;
+            return Integer.numberOfTrailingZeros(bits);
+        }
+    }
+}
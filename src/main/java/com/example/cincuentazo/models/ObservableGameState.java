@@ -0,0 +1,115 @@
+package com.example.cincuentazo.models;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.ReadOnlyLongWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+
+/**
+ * Observable view of a game, fed with the snapshots published by {@link GameEngine}.
+ *
+ * <p>Each piece of the state is a read-only JavaFX property: the table sum, the last
+ * played card, the current player, and the eliminated flag and the hand (as a card mask)
+ * of every seat. {@link #update(GameSnapshot)} sets them all, and a property only
+ * notifies its change listeners when its own value changed, so a view bound to one
+ * hand is not touched by a move of another player. The change listener of a hand gets
+ * the old and new masks: the cards added are {@code now & ~old} and the cards removed
+ * {@code old & ~now}.
+ * </p>
+ *
+ * <p>The properties are not thread-safe: {@link #update} is meant to be called from
+ * the FX thread, like the listeners it notifies.</p>
+ */
+public class ObservableGameState {
+
+    private final ReadOnlyIntegerWrapper tableSum = new ReadOnlyIntegerWrapper(this, "tableSum");
+    private final ReadOnlyObjectWrapper<CardModel> lastPlayed = new ReadOnlyObjectWrapper<>(this, "lastPlayed");
+    private final ReadOnlyIntegerWrapper currentPlayer = new ReadOnlyIntegerWrapper(this, "currentPlayer", -1);
+    private final ReadOnlyBooleanWrapper[] eliminated;
+    private final ReadOnlyLongWrapper[] hands;
+
+    /** The snapshot last applied, or null. */
+    private GameSnapshot snapshot;
+
+    /**
+     * Creates the view of a game with no snapshot applied yet.
+     *
+     * @param playerCount Number of seats of the game.
+     */
+    public ObservableGameState(int playerCount) {
+        eliminated = new ReadOnlyBooleanWrapper[playerCount];
+        hands = new ReadOnlyLongWrapper[playerCount];
+        for (int seat = 0; seat < playerCount; seat++) {
+            eliminated[seat] = new ReadOnlyBooleanWrapper(this, "eliminated" + seat);
+            hands[seat] = new ReadOnlyLongWrapper(this, "hand" + seat);
+        }
+    }
+
+    /**
+     * Applies a snapshot, notifying the listeners of the properties that changed.
+     * A snapshot older than the one applied is ignored.
+     *
+     * @param next The snapshot.
+     */
+    public void update(GameSnapshot next) {
+        if (next == null || (snapshot != null && next.version() <= snapshot.version())) return;
+        snapshot = next;
+
+        int seats = Math.min(hands.length, next.playerCount());
+        for (int seat = 0; seat < seats; seat++) {
+            hands[seat].set(next.handMask(seat));
+            eliminated[seat].set(next.isEliminated(seat));
+        }
+        lastPlayed.set(next.lastPlayed());
+        tableSum.set(next.tableSum());
+        // Last, so its listeners see the rest of the turn already applied
+        currentPlayer.set(next.currentPlayer());
+    }
+
+    /**
+     * The snapshot last applied, or null if none.
+     */
+    public GameSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Number of seats of the game.
+     */
+    public int playerCount() {
+        return hands.length;
+    }
+
+    public ReadOnlyIntegerProperty tableSumProperty() {
+        return tableSum.getReadOnlyProperty();
+    }
+
+    /**
+     * The card on the table, or null before the first one.
+     */
+    public ReadOnlyObjectProperty<CardModel> lastPlayedProperty() {
+        return lastPlayed.getReadOnlyProperty();
+    }
+
+    /**
+     * Seat of the player whose turn it is, or -1 before the first snapshot.
+     */
+    public ReadOnlyIntegerProperty currentPlayerProperty() {
+        return currentPlayer.getReadOnlyProperty();
+    }
+
+    public ReadOnlyBooleanProperty eliminatedProperty(int seat) {
+        return eliminated[seat].getReadOnlyProperty();
+    }
+
+    /**
+     * The hand of a seat, as a card mask.
+     */
+    public ReadOnlyLongProperty handProperty(int seat) {
+        return hands[seat].getReadOnlyProperty();
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.cincuentazo.models;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * The whole state of a game packed into twelve primitive longs.
+ *
+ * <p>Layout of the words:
+ * <ul>
+ * <li>{@code 0..3}: the hand of each seat, as a card mask (unused seats are 0).</li>
+ * <li>{@code 4}: the meta word: table sum, last played card, eliminated and human bits,
+ * current player, player count and deck size.</li>
+ * <li>{@code 5}: the discard pile, as a card mask.</li>
+ * <li>{@code 6..11}: the deck order, 6 bits per card and 10 cards per word,
+ * from the bottom card up.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Copying, comparing and hashing a position only touches these words, so AI
+ * searches can clone and deduplicate positions without walking the engine's object
+ * graph. States are written by {@link GameEngine#pack(PackedState)} and loaded back
+ * with {@link GameEngine#unpack(PackedState)}.
+ * </p>
+ *
+ * <p>Hands and the discard pile are stored as sets: the draw order of a hand and the
+ * order of the discard pile are not kept. Neither affects play, since the discard
+ * pile is shuffled before it becomes the deck again.
+ * </p>
+ */
+public final class PackedState {
+
+    /** Largest number of seats at a table */
+    public static final int MAX_PLAYERS = 4;
+
+    static final int META = MAX_PLAYERS;
+    static final int DISCARD = META + 1;
+    static final int DECK = DISCARD + 1;
+
+    private static final int CARD_BITS = 6;
+    private static final int CARDS_PER_WORD = 10;
+    private static final long CARD_MASK = (1L << CARD_BITS) - 1;
+    private static final int DECK_WORDS = (CardModel.DECK_SIZE + CARDS_PER_WORD - 1) / CARDS_PER_WORD;
+
+    /** Total number of words of a packed state */
+    public static final int WORDS = DECK + DECK_WORDS;
+
+    // Meta word fields (shift and width). The sum has no lower bound (figures keep
+    // lowering it), so it takes the whole signed upper half of the word
+    private static final int LAST_SHIFT = 0;
+    private static final int ELIMINATED_SHIFT = 6;
+    private static final int HUMAN_SHIFT = 10;
+    private static final int CURRENT_SHIFT = 14, CURRENT_BITS = 2;
+    private static final int COUNT_SHIFT = 16, COUNT_BITS = 3;
+    private static final int DECK_SIZE_SHIFT = 19;
+    private static final int SUM_SHIFT = 32;
+
+    /** Value of the last played field when no card is on the table */
+    private static final int NO_CARD = (int) CARD_MASK;
+
+    private final long[] words = new long[WORDS];
+
+    /**
+     * Creates an empty state (no players, no cards).
+     */
+    public PackedState() {
+    }
+
+    /**
+     * Creates a copy of another state.
+     *
+     * @param other The state to copy.
+     */
+    public PackedState(PackedState other) {
+        copyFrom(other);
+    }
+
+    /**
+     * Overwrites this state with another one, without allocating.
+     *
+     * @param other The state to copy.
+     */
+    public void copyFrom(PackedState other) {
+        System.arraycopy(other.words, 0, words, 0, WORDS);
+    }
+
+    /**
+     * Returns a copy of this state.
+     */
+    public PackedState copy() {
+        return new PackedState(this);
+    }
+
+    // ----- Writers, used by GameEngine.pack -----
+
+    void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    void setHand(int seat, long mask) {
+        words[seat] = mask;
+    }
+
+    void setDiscard(long mask) {
+        words[DISCARD] = mask;
+    }
+
+    void setMeta(int tableSum, int lastPlayed, int eliminatedBits, int humanBits,
+                 int currentPlayer, int playerCount, int deckSize) {
+        words[META] = ((long) tableSum << SUM_SHIFT)
+                | ((long) (lastPlayed < 0 ? NO_CARD : lastPlayed) << LAST_SHIFT)
+                | ((long) eliminatedBits << ELIMINATED_SHIFT)
+                | ((long) humanBits << HUMAN_SHIFT)
+                | ((long) currentPlayer << CURRENT_SHIFT)
+                | ((long) playerCount << COUNT_SHIFT)
+                | ((long) deckSize << DECK_SIZE_SHIFT);
+    }
+
+    void setDeckCard(int index, int ordinal) {
+        int word = DECK + index / CARDS_PER_WORD;
+        int shift = (index % CARDS_PER_WORD) * CARD_BITS;
+        words[word] = (words[word] & ~(CARD_MASK << shift)) | ((long) ordinal << shift);
+    }
+
+    /**
+     * Overwrites this state with a random deal that the given seat cannot tell apart from
+     * {@code root}: the cards it has not seen (the other hands and the deck) are shuffled
+     * and dealt again, keeping every hand size. Every seat becomes a CPU, so the result
+     * can be played out with {@link GameEngine#playCpuTurn()}, and the observer has the turn.
+     *
+     * @param root     The observed state.
+     * @param observer The observing seat.
+     * @param random   Source of the shuffle.
+     * @param pool     Scratch array of {@link CardModel#DECK_SIZE} entries.
+     */
+    void determinize(PackedState root, int observer, RandomGenerator random, int[] pool) {
+        copyFrom(root);
+
+        long seen = root.handMask(observer) | root.discardMask();
+        if (root.lastPlayed() >= 0) seen |= CardMask.bit(root.lastPlayed());
+        int n = 0;
+        for (long m = CardMask.ALL & ~seen; m != 0; m &= m - 1) {
+            pool[n++] = Long.numberOfTrailingZeros(m);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = pool[i];
+            pool[i] = pool[j];
+            pool[j] = tmp;
+        }
+
+        int next = 0;
+        int players = root.playerCount();
+        for (int seat = 0; seat < players; seat++) {
+            if (seat == observer) continue;
+            long hand = 0L;
+            for (int k = Long.bitCount(root.handMask(seat)); k > 0; k--) {
+                hand |= CardMask.bit(pool[next++]);
+            }
+            setHand(seat, hand);
+        }
+        int deckSize = n - next;
+        for (int i = 0; i < deckSize; i++) {
+            setDeckCard(i, pool[next + i]);
+        }
+        setMeta(root.tableSum(), root.lastPlayed(), root.eliminatedBits(), 0,
+                observer, players, deckSize);
+    }
+
+    // ----- Readers -----
+
+    private int meta(int shift, int bits) {
+        return (int) (words[META] >>> shift) & ((1 << bits) - 1);
+    }
+
+    public int playerCount() {
+        return meta(COUNT_SHIFT, COUNT_BITS);
+    }
+
+    /**
+     * Cards in the hand of the given seat, as a card mask.
+     */
+    public long handMask(int seat) {
+        return words[seat];
+    }
+
+    public int tableSum() {
+        return (int) (words[META] >> SUM_SHIFT);
+    }
+
+    /**
+     * Ordinal of the card visible on the table, or -1 if there is none.
+     */
+    public int lastPlayed() {
+        int last = meta(LAST_SHIFT, CARD_BITS);
+        return last == NO_CARD ? -1 : last;
+    }
+
+    public int eliminatedBits() {
+        return meta(ELIMINATED_SHIFT, MAX_PLAYERS);
+    }
+
+    public boolean isEliminated(int seat) {
+        return (eliminatedBits() & (1 << seat)) != 0;
+    }
+
+    public int humanBits() {
+        return meta(HUMAN_SHIFT, MAX_PLAYERS);
+    }
+
+    public boolean isHuman(int seat) {
+        return (humanBits() & (1 << seat)) != 0;
+    }
+
+    public int currentPlayer() {
+        return meta(CURRENT_SHIFT, CURRENT_BITS);
+    }
+
+    public int deckSize() {
+        return meta(DECK_SIZE_SHIFT, CARD_BITS);
+    }
+
+    /**
+     * Ordinal of the card at the given deck position (0 is the bottom card).
+     *
+     * @param index The position, in {@code [0, deckSize())}.
+     * @return The card ordinal.
+     */
+    public int deckCardAt(int index) {
+        int word = DECK + index / CARDS_PER_WORD;
+        int shift = (index % CARDS_PER_WORD) * CARD_BITS;
+        return (int) ((words[word] >>> shift) & CARD_MASK);
+    }
+
+    /**
+     * The discard pile (without the card visible on the table), as a card mask.
+     */
+    public long discardMask() {
+        return words[DISCARD];
+    }
+
+    /**
+     * Hash of what the given seat can observe: its own hand, the sum, the card on the
+     * table, the discard pile, the hand sizes, the eliminated players, the deck size and
+     * the seat to play. Two states with the same key are indistinguishable for that seat.
+     *
+     * @param seat The observing seat.
+     * @return The observation hash.
+     */
+    public long observerKey(int seat) {
+        long h = mix64(seat + 1L);
+        h = mix64(h ^ handMask(seat));
+        h = mix64(h ^ discardMask());
+        h = mix64(h ^ (words[META] & ~(((1L << MAX_PLAYERS) - 1) << HUMAN_SHIFT)));
+        for (int s = 0; s < playerCount(); s++) {
+            h = mix64(h ^ ((long) Long.bitCount(handMask(s)) << (8 * s)));
+        }
+        return h;
+    }
+
+    /**
+     * Well-mixed 64-bit hash of the whole state.
+     *
+     * @return The hash.
+     */
+    public long hash64() {
+        long h = WORDS;
+        for (long word : words) {
+            h = mix64(h ^ word) * 0x9E3779B97F4A7C15L;
+        }
+        return mix64(h);
+    }
+
+    /**
+     * Finalizer of a 64-bit hash (the "variant 13" mixer of SplittableRandom):
+     * every input bit affects every output bit.
+     *
+     * @param z The value to mix.
+     * @return The mixed value.
+     */
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return o instanceof PackedState && Arrays.equals(words, ((PackedState) o).words);
+    }
+
+    @Override
+    public int hashCode() {
+        long h = hash64();
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "PackedState{players=" + playerCount() + ", sum=" + tableSum()
+                + ", current=" + currentPlayer() + ", deck=" + deckSize()
+                + ", hash=" + Long.toHexString(hash64()) + "}";
+    }
+}
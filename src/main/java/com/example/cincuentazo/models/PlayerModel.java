@@ -6,6 +6,9 @@ public class PlayerModel {
     private final boolean human;
     private boolean eliminated = false;
 
+    /** Engine that keeps track of this player's elimination (null when not seated) */
+    private GameEngine engine;
+
     public PlayerModel(String name, boolean human) {
         this.name = name;
         this.human = human;
@@ -29,6 +32,15 @@ public class PlayerModel {
     }
 
     public void setEliminated(boolean eliminated) {
+        if (this.eliminated == eliminated) return;
         this.eliminated = eliminated;
+        if (engine != null) engine.onEliminationChanged(this);
+    }
+
+    /**
+     * Links the player to the engine that counts the active players
+     */
+    void setEngine(GameEngine engine) {
+        this.engine = engine;
     }
 }
\ No newline at end of file
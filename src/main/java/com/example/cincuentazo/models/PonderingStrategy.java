@@ -0,0 +1,254 @@
+package com.example.cincuentazo.models;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * CPU strategy that thinks during the human's turn ("pondering").
+ *
+ * <p>Registered as a {@link TurnListener}, it reacts when the human gets the turn: for
+ * every card the human can legally play (or for the elimination, if none can be
+ * played) it forks the engine through a {@link PackedState}, applies that move on the
+ * fork and starts searching the reply of the CPU that plays next, on the background
+ * executor. Each reply is keyed by what that CPU observes
+ * ({@link PackedState#observerKey(int)}), which does not depend on the card the human
+ * draws.
+ * </p>
+ *
+ * <p>When the CPU's turn comes, the branch whose key matches the real position is asked
+ * to stop and gives the best card it found, and the other branches are cancelled.
+ * Without a match the regular strategy is used. {@link #onTurnChanged} is called from
+ * the engine's owner thread; {@link #chooseCard} may run on another thread (e.g. a
+ * search thread of {@link CpuTurnScheduler}), but never at the same time.
+ * </p>
+ *
+ * <p>The branch strategies are created on demand and kept for the next human turns:
+ * a turn has at most one branch per card of the hand, and each strategy starts its
+ * next search once the previous one has stopped.
+ * </p>
+ */
+public class PonderingStrategy implements CpuStrategy, TurnListener {
+
+    private static final Branch[] NO_BRANCHES = new Branch[0];
+
+    /** Longest wait for a matching branch to stop, in milliseconds, before searching anew */
+    private static final long HIT_WAIT_MILLIS = 100;
+
+    private final CpuStrategy fallback;
+    private final Supplier<CpuStrategy> branchStrategies;
+    private final Executor executor;
+    private final SplittableRandom random = new SplittableRandom();
+
+    /** Scratch state for packing the engine in {@link #onTurnChanged} */
+    private final PackedState state = new PackedState();
+
+    /** Strategies of the branches, reused across turns; only used from the owner thread */
+    private final List<Slot> slots = new ArrayList<>();
+
+    /** Branches of the current human turn; replaced as a whole, read from any thread */
+    private volatile Branch[] branches = NO_BRANCHES;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a pondering strategy.
+     *
+     * @param fallback         Strategy used when no precomputed reply matches.
+     * @param branchStrategies Creates the strategy that searches one branch (one per
+     *                         concurrent branch, since strategies are not thread-safe);
+     *                         the strategies are reused across turns.
+     * @param executor         Executor that runs the branches.
+     */
+    public PonderingStrategy(CpuStrategy fallback, Supplier<CpuStrategy> branchStrategies, Executor executor) {
+        this.fallback = fallback;
+        this.branchStrategies = branchStrategies;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts pondering when the turn is handed to the human player.
+     */
+    @Override
+    public void onTurnChanged(GameEngine engine, PlayerModel current) {
+        // The branches of the previous human turn are kept for the CPU that replies
+        if (current == null || !current.isHuman()) return;
+        cancelBranches();
+        if (engine.hasWinner()) return;
+
+        engine.pack(state);
+        long playable = current.getHand().mask() & TransitionTable.legalMask(engine.getTableSum());
+        int count = playable == 0 ? 1 : Long.bitCount(playable);
+        Branch[] started = new Branch[count];
+
+        if (playable == 0) {
+            started[0] = startBranch(null, 0);
+        } else {
+            int i = 0;
+            for (long m = playable; m != 0; m &= m - 1, i++) {
+                started[i] = startBranch(CardModel.of(Long.numberOfTrailingZeros(m)), i);
+            }
+        }
+        branches = started;
+    }
+
+    /**
+     * Forks the packed position, applies the human's move and searches the reply.
+     *
+     * @param humanCard The card the human plays, or null if the human is stuck.
+     * @param index     Index of the branch in the turn, which selects its strategy.
+     * @return The running branch.
+     */
+    private Branch startBranch(CardModel humanCard, int index) {
+        GameEngine fork = new GameEngine(random.split());
+        fork.unpack(state);
+        if (humanCard != null) {
+            fork.playAndPass(humanCard);
+        } else {
+            fork.eliminateIfStuck(fork.currentPlayer());
+            if (!fork.hasWinner()) fork.nextTurn();
+        }
+
+        PlayerModel reply = fork.currentPlayer();
+        if (fork.hasWinner() || reply.isHuman()) {
+            return new Branch(0L, null, CompletableFuture.completedFuture(null));
+        }
+
+        while (slots.size() <= index) {
+            slots.add(new Slot(branchStrategies.get()));
+        }
+        Slot slot = slots.get(index);
+        CpuStrategy strategy = slot.strategy;
+        long key = fork.pack().observerKey(fork.currentSeat());
+
+        // The strategy was cancelled with its previous branch: search once that one returned
+        Branch branch = new Branch(key, strategy);
+        branch.result = slot.last
+                .handle((card, error) -> null)
+                .thenApplyAsync(ignored -> branch.stopped ? null : strategy.chooseCard(fork, reply),
+                        executor);
+        slot.last = branch.result;
+        return branch;
+    }
+
+    @Override
+    public CardModel chooseCard(GameEngine engine, PlayerModel cpu) {
+        Branch[] current = branches;
+        branches = NO_BRANCHES;
+
+        Branch match = null;
+        if (current.length > 0) {
+            long key = engine.pack().observerKey(engine.currentSeat());
+            for (Branch b : current) {
+                if (match == null && b.strategy != null && b.key == key) {
+                    match = b;
+                } else {
+                    b.cancel();
+                }
+            }
+        }
+
+        if (match != null) {
+            // The branch has had the whole human turn: stop it and take its best reply so far
+            match.strategy.cancel();
+            CardModel card = match.result
+                    .completeOnTimeout(null, HIT_WAIT_MILLIS, TimeUnit.MILLISECONDS)
+                    .exceptionally(error -> null)
+                    .join();
+            // Did not stop in time (e.g. it had not started yet): make sure it does
+            match.cancel();
+            if (card != null && cpu.getHand().contains(card) && engine.isPlayable(card)) {
+                hits.incrementAndGet();
+                return card;
+            }
+        }
+        misses.incrementAndGet();
+        return fallback.chooseCard(engine, cpu);
+    }
+
+    /**
+     * Cancels the branches in progress and the fallback search.
+     */
+    @Override
+    public void cancel() {
+        cancelBranches();
+        fallback.cancel();
+    }
+
+    private void cancelBranches() {
+        Branch[] current = branches;
+        branches = NO_BRANCHES;
+        for (Branch b : current) {
+            b.cancel();
+        }
+    }
+
+    /**
+     * Number of CPU moves answered by a precomputed reply.
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * Number of CPU moves that had to be searched on their own turn.
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * Indicates if any branch is still searching.
+     */
+    boolean isPondering() {
+        for (Branch b : branches) {
+            if (!b.result.isDone()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * The reply searched for one possible move of the human.
+     */
+    private static final class Branch {
+        final long key;
+        final CpuStrategy strategy;
+        /** Set before the branch is published */
+        CompletableFuture<CardModel> result;
+        /** Set when cancelled, so a branch that has not started yet does not search */
+        volatile boolean stopped;
+
+        Branch(long key, CpuStrategy strategy) {
+            this.key = key;
+            this.strategy = strategy;
+        }
+
+        Branch(long key, CpuStrategy strategy, CompletableFuture<CardModel> result) {
+            this(key, strategy);
+            this.result = result;
+        }
+
+        void cancel() {
+            stopped = true;
+            if (strategy != null && !result.isDone()) strategy.cancel();
+        }
+    }
+
+    /**
+     * A branch strategy and the last search it was given.
+     */
+    private static final class Slot {
+        final CpuStrategy strategy;
+        CompletableFuture<?> last = CompletableFuture.completedFuture(null);
+
+        Slot(CpuStrategy strategy) {
+            this.strategy = strategy;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.cincuentazo.models;
+
+/**
+ * Precomputed effect of playing each card at each table sum.
+ *
+ * <p>For a table sum and a card ordinal the table gives the delta the card adds
+ * (applying the Ace rule), the resulting sum and whether the move is legal. Only
+ * sums near {@link GameEngine#MAX_SUM} behave differently: at any sum up to
+ * {@code MAX_SUM - 10} every card is legal and the Ace counts 10, and above
+ * {@code MAX_SUM + 10} nothing is legal. Those two ranges share their boundary row,
+ * so every reachable sum, however negative, is answered by an array read.
+ * </p>
+ */
+public final class TransitionTable {
+
+    /** Lowest sum with its own row; every lower sum behaves the same */
+    private static final int LOW_SUM = GameEngine.MAX_SUM - 10;
+
+    /** Highest sum with its own row; every higher sum behaves the same */
+    private static final int HIGH_SUM = GameEngine.MAX_SUM + 11;
+
+    private static final int ROWS = HIGH_SUM - LOW_SUM + 1;
+
+    /** Delta of each card, indexed by {@code row * DECK_SIZE + ordinal} */
+    private static final byte[] DELTAS = new byte[ROWS * CardModel.DECK_SIZE];
+
+    /** Legal cards per row, as a card mask */
+    private static final long[] LEGAL = new long[ROWS];
+
+    static {
+        for (int row = 0; row < ROWS; row++) {
+            int sum = LOW_SUM + row;
+            long legal = 0L;
+            for (int ordinal = 0; ordinal < CardModel.DECK_SIZE; ordinal++) {
+                int delta = CardModel.of(ordinal).rankCode == CardModel.ACE
+                        ? (sum + 10 <= GameEngine.MAX_SUM ? 10 : 1)
+                        : CardModel.baseValueOf(ordinal);
+                DELTAS[row * CardModel.DECK_SIZE + ordinal] = (byte) delta;
+                if (sum + delta <= GameEngine.MAX_SUM) legal |= CardMask.bit(ordinal);
+            }
+            LEGAL[row] = legal;
+        }
+    }
+
+    private TransitionTable() { /* utilitaria */ }
+
+    private static int row(int sum) {
+        if (sum <= LOW_SUM) return 0;
+        if (sum >= HIGH_SUM) return ROWS - 1;
+        return sum - LOW_SUM;
+    }
+
+    /**
+     * Value added to the table when the card is played at the given sum.
+     *
+     * @param sum     The current table sum.
+     * @param ordinal The card ordinal.
+     * @return The delta (the Ace counts 10 or 1 depending on the sum).
+     */
+    public static int delta(int sum, int ordinal) {
+        return DELTAS[row(sum) * CardModel.DECK_SIZE + ordinal];
+    }
+
+    /**
+     * Table sum after playing the card at the given sum.
+     *
+     * @param sum     The current table sum.
+     * @param ordinal The card ordinal.
+     * @return The new sum (not checked for legality).
+     */
+    public static int next(int sum, int ordinal) {
+        return sum + DELTAS[row(sum) * CardModel.DECK_SIZE + ordinal];
+    }
+
+    /**
+     * Indicates if the card can be played at the given sum without exceeding the maximum.
+     *
+     * @param sum     The current table sum.
+     * @param ordinal The card ordinal.
+     * @return true if the move is legal.
+     */
+    public static boolean isLegal(int sum, int ordinal) {
+        return (LEGAL[row(sum)] & CardMask.bit(ordinal)) != 0;
+    }
+
+    /**
+     * Mask of every card that can be played at the given sum.
+     *
+     * @param sum The current table sum.
+     * @return The legal card mask.
+     */
+    public static long legalMask(int sum) {
+        return LEGAL[row(sum)];
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.cincuentazo.models;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size, lock-free cache of evaluated positions, keyed by a Zobrist hash.
+ *
+ * <p>Each bucket has two slots: a depth-preferred slot, which keeps the deepest result
+ * of the current search, and an always-replace slot for everything else. An entry is
+ * stored as two plain longs, {@code key ^ data} and {@code data}. Several searches can
+ * share a table without locks: a torn or overwritten entry no longer satisfies
+ * {@code stored ^ data == key} and simply reads as a miss.
+ * </p>
+ */
+public final class TranspositionTable {
+
+    /** Result of {@link #probe(long)} when the position is not cached */
+    public static final long MISS = 0L;
+
+    // Data word layout: value (float bits) | depth | move + 1 | generation | valid bit
+    private static final int DEPTH_SHIFT = 32;
+    private static final int MOVE_SHIFT = 40;
+    private static final int GENERATION_SHIFT = 48;
+    private static final long VALID = 1L << 63;
+
+    private final long[] checks;
+    private final long[] data;
+    private final int bucketMask;
+
+    /** Age of the current search; entries of older searches are replaced first */
+    private volatile int generation;
+
+    /**
+     * Creates a table with {@code 2^log2Buckets} buckets of two entries.
+     *
+     * @param log2Buckets Size of the table, as a power of two (e.g. 16 for 128K entries).
+     * @throws IllegalArgumentException if the size is out of range.
+     */
+    public TranspositionTable(int log2Buckets) {
+        if (log2Buckets < 1 || log2Buckets > 26) {
+            throw new IllegalArgumentException("log2Buckets out of range: " + log2Buckets);
+        }
+        int buckets = 1 << log2Buckets;
+        this.checks = new long[buckets * 2];
+        this.data = new long[buckets * 2];
+        this.bucketMask = buckets - 1;
+    }
+
+    /**
+     * Number of entries the table can hold.
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Starts a new search: entries stored from now on take precedence over older ones.
+     */
+    public void newSearch() {
+        generation = (generation + 1) & 0xFF;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        Arrays.fill(checks, 0L);
+        Arrays.fill(data, 0L);
+    }
+
+    /**
+     * Looks a position up.
+     *
+     * @param key The Zobrist hash of the position.
+     * @return The packed entry (read with {@link #value}, {@link #depth} and {@link #move}),
+     *         or {@link #MISS}.
+     */
+    public long probe(long key) {
+        int slot = slot(key);
+        long d = data[slot];
+        if (d != 0 && (checks[slot] ^ d) == key) return d;
+        d = data[slot + 1];
+        if (d != 0 && (checks[slot + 1] ^ d) == key) return d;
+        return MISS;
+    }
+
+    /**
+     * Stores the evaluation of a position.
+     *
+     * @param key   The Zobrist hash of the position.
+     * @param depth The remaining search depth the value was computed with (0-255).
+     * @param value The value of the position.
+     * @param move  The best move found (e.g. a card ordinal, 0-254), or -1 for none.
+     */
+    public void store(long key, int depth, float value, int move) {
+        int gen = generation;
+        long d = VALID
+                | ((long) gen << GENERATION_SHIFT)
+                | ((long) (move + 1) << MOVE_SHIFT)
+                | ((long) depth << DEPTH_SHIFT)
+                | (Float.floatToRawIntBits(value) & 0xFFFF_FFFFL);
+
+        int slot = slot(key);
+        long old = data[slot];
+        boolean replace = old == 0
+                || (checks[slot] ^ old) == key
+                || generation(old) != gen
+                || depth(old) <= depth;
+        if (!replace) slot++;
+
+        checks[slot] = key ^ d;
+        data[slot] = d;
+    }
+
+    private int slot(long key) {
+        return ((int) (key >>> 32) & bucketMask) << 1;
+    }
+
+    public static float value(long entry) {
+        return Float.intBitsToFloat((int) entry);
+    }
+
+    public static int depth(long entry) {
+        return (int) (entry >>> DEPTH_SHIFT) & 0xFF;
+    }
+
+    /**
+     * The best move of the entry, or -1 if none was stored.
+     */
+    public static int move(long entry) {
+        return ((int) (entry >>> MOVE_SHIFT) & 0xFF) - 1;
+    }
+
+    private static int generation(long entry) {
+        return (int) (entry >>> GENERATION_SHIFT) & 0xFF;
+    }
+}
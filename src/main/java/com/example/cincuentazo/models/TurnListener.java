@@ -0,0 +1,19 @@
+package com.example.cincuentazo.models;
+
+/**
+ * Listener notified by {@link GameEngine} whenever the turn is handed to a player.
+ *
+ * <p>Listeners are called synchronously on the thread that changed the turn, so
+ * they should only record or schedule work, never block.</p>
+ */
+@FunctionalInterface
+public interface TurnListener {
+
+    /**
+     * Called after the turn has been handed to {@code current}.
+     *
+     * @param engine  The engine whose turn changed.
+     * @param current The player who now has the turn.
+     */
+    void onTurnChanged(GameEngine engine, PlayerModel current);
+}
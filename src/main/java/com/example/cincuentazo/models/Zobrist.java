@@ -0,0 +1,109 @@
+package com.example.cincuentazo.models;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random keys for Zobrist hashing of game positions.
+ *
+ * <p>A position hash is the XOR of one key per feature (a card in a seat's hand, a card
+ * in the discard pile, the card on the table, the sum, the seat to play and every
+ * eliminated seat). A move only flips a few features, so the hash is updated with a
+ * few XORs instead of being recomputed; {@link GameEngine#zobristHash()} is maintained
+ * that way.
+ * </p>
+ *
+ * <p>The search keys ({@link #ownClass} and {@link #unseenClass}) hash a CPU's view of
+ * the table, where cards are only known by value class and unknown cards are pooled.
+ * The keys are generated from a fixed seed, so hashes are stable between runs.
+ * </p>
+ */
+public final class Zobrist {
+
+    /** Largest count of cards of one value class (the 12 figures) */
+    private static final int MAX_CLASS_COUNT = 12;
+
+    private static final long[] HAND = new long[PackedState.MAX_PLAYERS * CardModel.DECK_SIZE];
+    private static final long[] DISCARD = new long[CardModel.DECK_SIZE];
+    private static final long[] LAST_PLAYED = new long[CardModel.DECK_SIZE];
+    private static final long[] TURN = new long[PackedState.MAX_PLAYERS];
+    private static final long[] ELIMINATED = new long[PackedState.MAX_PLAYERS];
+    private static final long[] PERSPECTIVE = new long[PackedState.MAX_PLAYERS];
+    private static final long[] OWN_CLASS = new long[ExpectimaxSearch.CLASSES * (MAX_CLASS_COUNT + 1)];
+    private static final long[] UNSEEN_CLASS = new long[ExpectimaxSearch.CLASSES * (MAX_CLASS_COUNT + 1)];
+    private static final long SUM_SALT;
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5A0B_C1E5_7A2DL);
+        fill(HAND, random);
+        fill(DISCARD, random);
+        fill(LAST_PLAYED, random);
+        fill(TURN, random);
+        fill(ELIMINATED, random);
+        fill(PERSPECTIVE, random);
+        fill(OWN_CLASS, random);
+        fill(UNSEEN_CLASS, random);
+        SUM_SALT = random.nextLong();
+
+        // An empty class contributes nothing, so classes can be added lazily
+        for (int c = 0; c < ExpectimaxSearch.CLASSES; c++) {
+            OWN_CLASS[c * (MAX_CLASS_COUNT + 1)] = 0L;
+            UNSEEN_CLASS[c * (MAX_CLASS_COUNT + 1)] = 0L;
+        }
+    }
+
+    private Zobrist() { /* utilitaria */ }
+
+    private static void fill(long[] keys, SplittableRandom random) {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    public static long hand(int seat, int ordinal) {
+        return HAND[seat * CardModel.DECK_SIZE + ordinal];
+    }
+
+    public static long discard(int ordinal) {
+        return DISCARD[ordinal];
+    }
+
+    public static long lastPlayed(int ordinal) {
+        return LAST_PLAYED[ordinal];
+    }
+
+    /**
+     * Key of a table sum. Sums are unbounded, so the key is mixed on the fly.
+     */
+    public static long sum(int sum) {
+        return PackedState.mix64(SUM_SALT + sum);
+    }
+
+    public static long turn(int seat) {
+        return TURN[seat];
+    }
+
+    public static long eliminated(int seat) {
+        return ELIMINATED[seat];
+    }
+
+    /**
+     * Key of the seat whose view of the table is hashed.
+     */
+    public static long perspective(int seat) {
+        return PERSPECTIVE[seat];
+    }
+
+    /**
+     * Key for holding {@code count} cards of a value class in the searching player's hand.
+     */
+    public static long ownClass(int valueClass, int count) {
+        return OWN_CLASS[valueClass * (MAX_CLASS_COUNT + 1) + count];
+    }
+
+    /**
+     * Key for {@code count} unseen cards of a value class.
+     */
+    public static long unseenClass(int valueClass, int count) {
+        return UNSEEN_CLASS[valueClass * (MAX_CLASS_COUNT + 1) + count];
+    }
+}
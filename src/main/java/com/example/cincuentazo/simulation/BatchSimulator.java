@@ -0,0 +1,131 @@
+package com.example.cincuentazo.simulation;
+
+import com.example.cincuentazo.models.CardModel;
+import com.example.cincuentazo.models.CpuStrategy;
+import com.example.cincuentazo.models.GameEngine;
+import com.example.cincuentazo.models.PackedState;
+
+import java.util.SplittableRandom;
+
+/**
+ * Plays many all-CPU tables in lockstep, asking each seat's strategy for the moves of
+ * every table at once.
+ *
+ * <p>At each step every table is packed, the tables are grouped by the seat that has
+ * the turn and each group goes to that seat's strategy in one
+ * {@link CpuStrategy#chooseCards} call, so strategies with an expensive setup (a
+ * search) pay it once per step instead of once per table. A finished table is dealt
+ * again until the requested number of games has been started.
+ * </p>
+ */
+public class BatchSimulator {
+
+    private final int numPlayers;
+    private final CpuStrategy[] strategies;
+    private final GameEngine[] tables;
+
+    // Per-table state and the scratch arrays of the batch calls
+    private final PackedState[] positions;
+    private final int[] turns;
+    private final boolean[] playing;
+    private final PackedState[] batch;
+    private final int[] batchTables;
+    private final int[] cards;
+
+    /**
+     * Creates a simulator.
+     *
+     * @param numPlayers     Number of CPU players per game (2-4).
+     * @param tableCount     Number of tables played at the same time.
+     * @param random         Random source, split into one per table.
+     * @param seatStrategies Strategy of each seat, from seat 0; missing seats play greedy.
+     * @throws IllegalArgumentException if there are more strategies than seats.
+     */
+    public BatchSimulator(int numPlayers, int tableCount, SplittableRandom random, CpuStrategy... seatStrategies) {
+        this.numPlayers = Math.max(2, Math.min(numPlayers, 4));
+        if (seatStrategies.length > this.numPlayers) {
+            throw new IllegalArgumentException("More strategies than seats: " + seatStrategies.length);
+        }
+        this.strategies = new CpuStrategy[this.numPlayers];
+        for (int seat = 0; seat < this.numPlayers; seat++) {
+            strategies[seat] = seat < seatStrategies.length && seatStrategies[seat] != null
+                    ? seatStrategies[seat]
+                    : CpuStrategy.greedy();
+        }
+
+        int n = Math.max(1, tableCount);
+        this.tables = new GameEngine[n];
+        this.positions = new PackedState[n];
+        for (int t = 0; t < n; t++) {
+            tables[t] = new GameEngine(random.split());
+            positions[t] = new PackedState();
+        }
+        this.turns = new int[n];
+        this.playing = new boolean[n];
+        this.batch = new PackedState[n];
+        this.batchTables = new int[n];
+        this.cards = new int[n];
+    }
+
+    /**
+     * Plays the given number of games.
+     *
+     * @param games Number of games to play.
+     * @return The aggregated result; the wins of each seat are the wins of its strategy.
+     */
+    public SimulationResult run(long games) {
+        SimulationResult result = new SimulationResult(numPlayers);
+        long started = 0;
+        int live = 0;
+        for (int t = 0; t < tables.length; t++) {
+            playing[t] = started < games;
+            if (playing[t]) {
+                deal(t);
+                started++;
+                live++;
+            }
+        }
+
+        while (live > 0) {
+            for (int t = 0; t < tables.length; t++) {
+                if (playing[t]) tables[t].pack(positions[t]);
+            }
+
+            for (int seat = 0; seat < numPlayers; seat++) {
+                int count = 0;
+                for (int t = 0; t < tables.length; t++) {
+                    if (playing[t] && positions[t].currentPlayer() == seat) {
+                        batch[count] = positions[t];
+                        batchTables[count++] = t;
+                    }
+                }
+                if (count == 0) continue;
+
+                strategies[seat].chooseCards(batch, count, cards);
+                for (int k = 0; k < count; k++) {
+                    int t = batchTables[k];
+                    GameEngine engine = tables[t];
+                    boolean going = engine.playCpuTurn(cards[k] < 0 ? null : CardModel.of(cards[k]));
+                    turns[t]++;
+                    if (going && turns[t] < HeadlessSimulator.MAX_TURNS) continue;
+
+                    int winnerSeat = engine.hasWinner() ? engine.getPlayers().indexOf(engine.getWinner()) : -1;
+                    result.record(winnerSeat, turns[t]);
+                    if (started < games) {
+                        deal(t);
+                        started++;
+                    } else {
+                        playing[t] = false;
+                        live--;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private void deal(int t) {
+        tables[t].startGame(numPlayers, false);
+        turns[t] = 0;
+    }
+}
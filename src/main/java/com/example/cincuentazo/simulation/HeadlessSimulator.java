@@ -0,0 +1,107 @@
+package com.example.cincuentazo.simulation;
+
+import com.example.cincuentazo.models.GameEngine;
+
+/**
+ * Plays complete all-CPU games of Cincuentazo without any UI.
+ *
+ * <p>The simulator drives a single {@link GameEngine} in a tight loop, with no
+ * thinking delays and no JavaFX toolkit, so it can be used to tune CPU strategies
+ * and to catch rule bugs over a large number of games.
+ * </p>
+ *
+ * <p>Command line usage (from the project root, after {@code mvn compile}):
+ * <pre>
+ * java -cp target/classes com.example.cincuentazo.simulation.HeadlessSimulator [games] [players]
+ * </pre>
+ * </p>
+ */
+public class HeadlessSimulator {
+
+    /** Safety limit: games longer than this are counted as unfinished */
+    public static final int MAX_TURNS = 2_000;
+
+    private final GameEngine engine;
+    private final int numPlayers;
+
+    /**
+     * Creates a simulator for tables of the given size.
+     *
+     * @param engine     The engine to drive (it is restarted for every game).
+     * @param numPlayers Number of CPU players per game (clamped to 2-4 by the engine).
+     */
+    public HeadlessSimulator(GameEngine engine, int numPlayers) {
+        this.engine = engine;
+        this.numPlayers = Math.max(2, Math.min(numPlayers, 4));
+    }
+
+    /**
+     * Plays a single game until there is a winner or the turn limit is reached.
+     *
+     * @param result The result where the outcome is recorded.
+     */
+    public void playGame(SimulationResult result) {
+        engine.startGame(numPlayers, false);
+
+        int turns = 0;
+        while (turns < MAX_TURNS && engine.playCpuTurn()) {
+            turns++;
+        }
+
+        int winnerSeat = engine.hasWinner() ? engine.getPlayers().indexOf(engine.getWinner()) : -1;
+        result.record(winnerSeat, turns);
+    }
+
+    /**
+     * Plays the given number of games.
+     *
+     * @param games Number of games to play.
+     * @return The aggregated result.
+     */
+    public SimulationResult run(long games) {
+        SimulationResult result = new SimulationResult(numPlayers);
+        for (long g = 0; g < games; g++) {
+            playGame(result);
+        }
+        return result;
+    }
+
+    /**
+     * Command line entry point. Prints the aggregated result and the throughput in games/sec.
+     *
+     * @param args Optional number of games (default 1,000,000) and players (default 4).
+     */
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+
+        HeadlessSimulator simulator = new HeadlessSimulator(new GameEngine(), players);
+
+        // Short warm-up so the JIT has compiled the hot paths before measuring
+        simulator.run(Math.min(games, 10_000));
+
+        long start = System.nanoTime();
+        SimulationResult result = simulator.run(games);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        printReport(result, seconds);
+    }
+
+    /**
+     * Prints a human readable report of a simulation run.
+     *
+     * @param result  The aggregated result.
+     * @param seconds Wall clock time spent, in seconds.
+     */
+    static void printReport(SimulationResult result, double seconds) {
+        System.out.printf("Games:        %,d (%,d unfinished)%n", result.games(), result.unfinished());
+        System.out.printf("Turns:        %,d (%.1f per game)%n", result.turns(),
+                result.games() == 0 ? 0.0 : (double) result.turns() / result.games());
+        System.out.printf("Time:         %.3f s%n", seconds);
+        System.out.printf("Throughput:   %,.0f games/sec%n", seconds > 0 ? result.games() / seconds : 0.0);
+        for (int seat = 0; seat < result.seats(); seat++) {
+            System.out.printf("Seat %d wins:  %,d (%.2f%%)%n", seat, result.winsForSeat(seat),
+                    result.games() == 0 ? 0.0 : 100.0 * result.winsForSeat(seat) / result.games());
+        }
+    }
+}
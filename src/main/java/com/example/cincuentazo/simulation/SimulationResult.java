@@ -0,0 +1,89 @@
+package com.example.cincuentazo.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Aggregated outcome of a batch of simulated games.
+ *
+ * <p>Keeps the number of games played, the wins per seat, the games that hit
+ * the turn limit without a winner and the total number of turns played.
+ * Results of independent batches can be combined with {@link #merge(SimulationResult)}.
+ * </p>
+ */
+public class SimulationResult {
+
+    private final long[] seatWins;
+    private long games;
+    private long unfinished;
+    private long turns;
+
+    /**
+     * Creates an empty result for a table with the given number of seats.
+     *
+     * @param seats Number of players at the table.
+     */
+    public SimulationResult(int seats) {
+        this.seatWins = new long[seats];
+    }
+
+    /**
+     * Records a finished game.
+     *
+     * @param winnerSeat Index of the winning seat, or -1 if the game hit the turn limit.
+     * @param gameTurns  Number of turns the game lasted.
+     */
+    public void record(int winnerSeat, int gameTurns) {
+        games++;
+        turns += gameTurns;
+        if (winnerSeat < 0) {
+            unfinished++;
+        } else {
+            seatWins[winnerSeat]++;
+        }
+    }
+
+    /**
+     * Adds the counts of another result into this one.
+     *
+     * @param other The result to merge (must have the same number of seats).
+     * @return This result, for chaining.
+     */
+    public SimulationResult merge(SimulationResult other) {
+        if (other.seatWins.length != seatWins.length) {
+            throw new IllegalArgumentException("Seat count mismatch");
+        }
+        games += other.games;
+        unfinished += other.unfinished;
+        turns += other.turns;
+        for (int i = 0; i < seatWins.length; i++) {
+            seatWins[i] += other.seatWins[i];
+        }
+        return this;
+    }
+
+    public int seats() {
+        return seatWins.length;
+    }
+
+    public long games() {
+        return games;
+    }
+
+    public long unfinished() {
+        return unfinished;
+    }
+
+    public long turns() {
+        return turns;
+    }
+
+    public long winsForSeat(int seat) {
+        return seatWins[seat];
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationResult(games=" + games + ", unfinished=" + unfinished
+                + ", turns=" + turns + ", seatWins=" + Arrays.toString(seatWins) + ")";
+    }
+}
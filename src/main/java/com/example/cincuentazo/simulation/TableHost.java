@@ -0,0 +1,175 @@
+package com.example.cincuentazo.simulation;
+
+import com.example.cincuentazo.models.GameEngine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hosts many independent all-CPU tables in one JVM, one virtual thread per table.
+ *
+ * <p>Each table owns a {@link GameEngine} and plays games back to back, sleeping a
+ * realistic "thinking" delay before every CPU move. A sleeping virtual thread only
+ * keeps its small stack chunk on the heap and releases its carrier thread, so tens of
+ * thousands of tables fit on a laptop with a handful of carrier threads.
+ * </p>
+ *
+ * <p>Stress mode, from the project root after {@code mvn compile}:
+ * <pre>
+ * java -cp target/classes com.example.cincuentazo.simulation.TableHost [tables] [seconds] [players] [minThinkMs] [maxThinkMs]
+ * </pre>
+ * </p>
+ */
+public class TableHost {
+
+    private final int numPlayers;
+    private final long minThinkMillis;
+    private final long maxThinkMillis;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger liveTables = new AtomicInteger();
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder games = new LongAdder();
+    private final LongAdder cappedGames = new LongAdder();
+
+    // Volatile flag to safely request every table to stop
+    private volatile boolean stop = false;
+
+    /**
+     * Creates a table host.
+     *
+     * @param numPlayers     Number of CPU players per table (2-4).
+     * @param minThinkMillis Minimum thinking delay before each move.
+     * @param maxThinkMillis Maximum thinking delay before each move.
+     */
+    public TableHost(int numPlayers, long minThinkMillis, long maxThinkMillis) {
+        this.numPlayers = numPlayers;
+        this.minThinkMillis = minThinkMillis;
+        this.maxThinkMillis = Math.max(minThinkMillis, maxThinkMillis);
+    }
+
+    /**
+     * Opens new tables, each on its own virtual thread.
+     *
+     * @param tables Number of tables to open.
+     * @param seed   Root seed for the tables' random generators.
+     */
+    public void open(int tables, long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+        for (int i = 0; i < tables; i++) {
+            SplittableRandom random = root.split();
+            executor.execute(() -> runTable(random));
+        }
+    }
+
+    /**
+     * Plays games on one table until the host is stopped.
+     *
+     * @param random The table's own random generator.
+     */
+    private void runTable(SplittableRandom random) {
+        liveTables.incrementAndGet();
+        try {
+            GameEngine engine = new GameEngine(random);
+            while (!stop) {
+                engine.startGame(numPlayers, false);
+                int turns = 0;
+                boolean playing = true;
+                while (playing && !stop && turns < HeadlessSimulator.MAX_TURNS) {
+                    Thread.sleep(random.nextLong(minThinkMillis, maxThinkMillis + 1));
+                    playing = engine.playCpuTurn();
+                    moves.increment();
+                    turns++;
+                }
+                if (stop) break;
+                if (engine.hasWinner()) {
+                    games.increment();
+                } else {
+                    // Cut off at HeadlessSimulator.MAX_TURNS without a winner
+                    cappedGames.increment();
+                }
+            }
+        } catch (InterruptedException ignored) {
+            // Host is shutting down
+        } finally {
+            liveTables.decrementAndGet();
+        }
+    }
+
+    /**
+     * Stops every table and waits for their threads to finish.
+     *
+     * @param timeoutMillis Maximum time to wait.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public void close(long timeoutMillis) throws InterruptedException {
+        stop = true;
+        executor.shutdownNow();
+        executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public int liveTables() {
+        return liveTables.get();
+    }
+
+    public long moves() {
+        return moves.sum();
+    }
+
+    /**
+     * Number of games finished with a winner.
+     */
+    public long games() {
+        return games.sum();
+    }
+
+    /**
+     * Number of games cut off at {@link HeadlessSimulator#MAX_TURNS} without a winner.
+     */
+    public long cappedGames() {
+        return cappedGames.sum();
+    }
+
+    /**
+     * Stress mode entry point. Opens the tables and prints throughput and heap usage every second.
+     *
+     * @param args Optional tables (default 10,000), seconds (default 30), players (default 4),
+     *             minimum and maximum think time in ms (default 2000-4000).
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int tables = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int players = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        long minThink = args.length > 3 ? Long.parseLong(args[3]) : 2_000;
+        long maxThink = args.length > 4 ? Long.parseLong(args[4]) : 4_000;
+
+        Runtime rt = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = rt.totalMemory() - rt.freeMemory();
+
+        TableHost host = new TableHost(players, minThink, maxThink);
+        host.open(tables, System.nanoTime());
+
+        long lastMoves = 0;
+        for (int s = 1; s <= seconds; s++) {
+            Thread.sleep(1_000);
+            long totalMoves = host.moves();
+            long heapUsed = rt.totalMemory() - rt.freeMemory();
+            System.out.printf("t=%3ds  tables=%,d  moves/s=%,d  games=%,d  capped=%,d  heap=%,d KB%n",
+                    s, host.liveTables(), totalMoves - lastMoves, host.games(), host.cappedGames(),
+                    heapUsed / 1024);
+            lastMoves = totalMoves;
+        }
+
+        System.gc();
+        long heapAfter = rt.totalMemory() - rt.freeMemory();
+        System.out.printf("Approx. memory per table: %,d bytes%n",
+                Math.max(0, heapAfter - heapBefore) / Math.max(1, host.liveTables()));
+
+        host.close(5_000);
+    }
+}
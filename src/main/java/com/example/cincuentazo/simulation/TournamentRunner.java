@@ -0,0 +1,183 @@
+package com.example.cincuentazo.simulation;
+
+import com.example.cincuentazo.models.CpuStrategy;
+import com.example.cincuentazo.models.ExpectimaxSearch;
+import com.example.cincuentazo.models.GameEngine;
+import com.example.cincuentazo.models.MctsSearch;
+import com.example.cincuentazo.models.TranspositionTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Runs a large number of headless games in parallel on a {@link ForkJoinPool}.
+ *
+ * <p>The requested games are split recursively into batches. Every batch owns its
+ * own {@link GameEngine} (and therefore its own deck) plus its own random generator,
+ * split from a single root seed, so workers never share mutable state and a
+ * tournament is reproducible for a given seed. Batch results are merged on the way
+ * back up into one {@link SimulationResult}.
+ * </p>
+ *
+ * <p>Each seat can play with its own {@link CpuStrategy}; since strategies are not
+ * thread-safe, every batch creates its own from a factory that receives the batch's
+ * random generator. The wins of a seat are then the wins of its strategy.
+ * </p>
+ *
+ * <p>Command line usage, with optional strategies per seat ({@code greedy}, {@code random},
+ * {@code expectimax} or {@code mcts}):
+ * <pre>
+ * java -cp target/classes com.example.cincuentazo.simulation.TournamentRunner [games] [players] [threads] [seed] [strategy...]
+ * </pre>
+ * </p>
+ */
+public class TournamentRunner {
+
+    /** Batches at or below this size are played sequentially by one worker */
+    private static final long BATCH_SIZE = 2_000;
+
+    /** Look-ahead of the {@code expectimax} seats, in own moves */
+    private static final int EXPECTIMAX_DEPTH = 1;
+
+    /** Iterations per move of the {@code mcts} seats */
+    private static final int MCTS_ITERATIONS = 200;
+
+    private final int numPlayers;
+    private final ForkJoinPool pool;
+    private final List<Function<SplittableRandom, CpuStrategy>> seatStrategies;
+
+    /**
+     * Creates a tournament runner where every seat plays greedy.
+     *
+     * @param numPlayers Number of CPU players per game (2-4).
+     * @param pool       The pool the games are played on.
+     */
+    public TournamentRunner(int numPlayers, ForkJoinPool pool) {
+        this(numPlayers, pool, List.of());
+    }
+
+    /**
+     * Creates a tournament runner with a strategy per seat.
+     *
+     * @param numPlayers     Number of CPU players per game (2-4).
+     * @param pool           The pool the games are played on.
+     * @param seatStrategies Factory of the strategy of each seat, from seat 0; missing
+     *                       seats play greedy.
+     * @throws IllegalArgumentException if there are more strategies than seats.
+     */
+    public TournamentRunner(int numPlayers, ForkJoinPool pool,
+                            List<Function<SplittableRandom, CpuStrategy>> seatStrategies) {
+        this.numPlayers = Math.max(2, Math.min(numPlayers, 4));
+        if (seatStrategies.size() > this.numPlayers) {
+            throw new IllegalArgumentException("More strategies than seats: " + seatStrategies.size());
+        }
+        this.pool = pool;
+        this.seatStrategies = List.copyOf(seatStrategies);
+    }
+
+    /**
+     * Factory of a built-in strategy, by name. The searches are bounded by depth or by
+     * iterations, never by time, so tournaments stay reproducible for a given seed.
+     *
+     * @param name {@code greedy}, {@code random}, {@code expectimax} or {@code mcts}.
+     * @return The factory.
+     * @throws IllegalArgumentException if the name is unknown.
+     */
+    static Function<SplittableRandom, CpuStrategy> strategyNamed(String name) {
+        switch (name) {
+            case "greedy":     return random -> CpuStrategy.greedy();
+            case "random":     return CpuStrategy::random;
+            case "expectimax": return random -> new ExpectimaxSearch(new TranspositionTable(16),
+                    EXPECTIMAX_DEPTH, ExpectimaxSearch.NO_TIME_LIMIT);
+            case "mcts":       return random -> new MctsSearch(MctsSearch.NO_TIME_LIMIT, 1,
+                    MCTS_ITERATIONS, random.nextLong());
+            default: throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+
+    /**
+     * Plays the given number of games across the pool.
+     *
+     * @param games Number of games to play.
+     * @param seed  Root seed; the same seed always produces the same result.
+     * @return The merged result of every game.
+     */
+    public SimulationResult run(long games, long seed) {
+        return pool.invoke(new GamesTask(0, games, new SplittableRandom(seed)));
+    }
+
+    /**
+     * Fork-join task that plays the games in {@code [from, to)}.
+     */
+    @SuppressWarnings("serial") // never serialized
+    private final class GamesTask extends RecursiveTask<SimulationResult> {
+        private final long from;
+        private final long to;
+        private final SplittableRandom random;
+
+        GamesTask(long from, long to, SplittableRandom random) {
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            long count = to - from;
+            if (count <= BATCH_SIZE) {
+                GameEngine engine = new GameEngine(random);
+                for (int seat = 0; seat < seatStrategies.size(); seat++) {
+                    engine.setCpuStrategy(seat, seatStrategies.get(seat).apply(random));
+                }
+                HeadlessSimulator simulator = new HeadlessSimulator(engine, numPlayers);
+                return simulator.run(count);
+            }
+
+            long mid = from + count / 2;
+            GamesTask left = new GamesTask(from, mid, random.split());
+            GamesTask right = new GamesTask(mid, to, random);
+            left.fork();
+            SimulationResult result = right.compute();
+            return result.merge(left.join());
+        }
+    }
+
+    /**
+     * Command line entry point. Prints the merged result and the throughput in games/sec.
+     *
+     * @param args Optional games (default 1,000,000), players (default 3),
+     *             threads (default: all cores), seed (default: current time) and the
+     *             strategy of each seat (default: greedy).
+     */
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+        List<Function<SplittableRandom, CpuStrategy>> strategies = new ArrayList<>();
+        for (int i = 4; i < args.length; i++) {
+            strategies.add(strategyNamed(args[i]));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            TournamentRunner runner = new TournamentRunner(players, pool, strategies);
+
+            // Short warm-up so the JIT has compiled the hot paths before measuring
+            runner.run(Math.min(games, 20_000), seed ^ 0x5DEECE66DL);
+
+            long start = System.nanoTime();
+            SimulationResult result = runner.run(games, seed);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("Threads:      %d (seed %d)%n", threads, seed);
+            HeadlessSimulator.printReport(result, seconds);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.cincuentazo.views;
+
+import com.example.cincuentazo.models.CardModel;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared sprite atlas of the card images, one per render size.
+ *
+ * <p>The first time a size is requested, the 52 faces and the back are decoded at that
+ * size and packed into a single {@link WritableImage}: one row per suit, one column per
+ * rank, and the back alone on a last row. Cards are then drawn by pointing an
+ * {@link ImageView} at the shared atlas with the card's viewport, so the whole table
+ * uses one image (one texture upload) per size and redrawing decodes nothing.
+ * Atlases are meant to be requested from the FX thread.
+ * </p>
+ */
+public final class CardImages {
+
+    private static final String CARDS_FOLDER = "/com/example/cincuentazo/assets/images/cards/";
+    private static final String BACK_IMAGE = CARDS_FOLDER + "back.png";
+
+    private static final int COLUMNS = CardModel.RANKS.size();
+    private static final int ROWS = CardModel.SUITS.size() + 1;
+
+    /** Index of the back image, after the faces (indexed by card ordinal) */
+    private static final int BACK = CardModel.DECK_SIZE;
+
+    /** The atlas of each render size */
+    private static final Map<Long, Atlas> CACHE = new ConcurrentHashMap<>();
+
+    private CardImages() {
+    }
+
+    /**
+     * Returns the atlas of the card images at the given size, building it on first use.
+     *
+     * @param width  The render width of a card.
+     * @param height The render height of a card.
+     * @return The atlas.
+     * @throws UncheckedIOException if an image cannot be read.
+     */
+    public static Atlas atlas(double width, double height) {
+        long size = ((long) Float.floatToIntBits((float) width) << 32)
+                | (Float.floatToIntBits((float) height) & 0xFFFFFFFFL);
+        return CACHE.computeIfAbsent(size, key -> new Atlas(width, height));
+    }
+
+    /**
+     * The card images of one render size, packed into one image.
+     */
+    public static final class Atlas {
+
+        private final WritableImage image;
+
+        /** Area of each card in the atlas, indexed by ordinal and then the back; null if missing */
+        private final Rectangle2D[] viewports = new Rectangle2D[BACK + 1];
+
+        private Atlas(double width, double height) {
+            int cellWidth = (int) Math.ceil(width);
+            int cellHeight = (int) Math.ceil(height);
+            image = new WritableImage(cellWidth * COLUMNS, cellHeight * ROWS);
+            PixelWriter writer = image.getPixelWriter();
+
+            for (int index = 0; index <= BACK; index++) {
+                Image card = load(index == BACK ? BACK_IMAGE : pathFor(CardModel.of(index)), width, height);
+                if (card == null) continue;
+
+                // Faces by suit (row) and rank (column); the back on the last row
+                int x = (index == BACK ? 0 : index % COLUMNS) * cellWidth;
+                int y = (index == BACK ? ROWS - 1 : index / COLUMNS) * cellHeight;
+                int w = (int) card.getWidth();
+                int h = (int) card.getHeight();
+                writer.setPixels(x, y, w, h, card.getPixelReader(), 0, 0);
+                viewports[index] = new Rectangle2D(x, y, w, h);
+            }
+        }
+
+        /**
+         * The shared image that holds every card.
+         */
+        public Image image() {
+            return image;
+        }
+
+        /**
+         * Area of the face of a card in {@link #image()}.
+         *
+         * @param card The card.
+         * @return The viewport, or null if the image of the card is missing.
+         */
+        public Rectangle2D face(CardModel card) {
+            return viewports[card.ordinal];
+        }
+
+        /**
+         * Area of the back of the cards in {@link #image()}.
+         *
+         * @return The viewport, or null if the back image is missing.
+         */
+        public Rectangle2D back() {
+            return viewports[BACK];
+        }
+
+        /**
+         * Points an image view at a card of the atlas.
+         *
+         * @param view     The view to update.
+         * @param viewport The area of the card, from {@link #face} or {@link #back}.
+         */
+        public void show(ImageView view, Rectangle2D viewport) {
+            if (view.getImage() != image) view.setImage(image);
+            view.setViewport(viewport);
+        }
+    }
+
+    private static Image load(String resourcePath, double width, double height) {
+        try (InputStream is = CardImages.class.getResourceAsStream(resourcePath)) {
+            if (is == null) return null;
+            return new Image(is, width, height, true, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + resourcePath, e);
+        }
+    }
+
+    /**
+     * Generates the resource path for a card's face image.
+     *
+     * @param card The CardModel.
+     * @return The resource path string.
+     */
+    static String pathFor(CardModel card) {
+        String suitCard;
+        switch (card.suit) {
+            case "picas":     suitCard = "P"; break;
+            case "corazones": suitCard = "C"; break;
+            case "diamantes": suitCard = "D"; break;
+            case "treboles":  suitCard = "T"; break;
+            default:          suitCard = card.suit; break;
+        }
+        return CARDS_FOLDER + card.rank + suitCard + ".png";
+    }
+}
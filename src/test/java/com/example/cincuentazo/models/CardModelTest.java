@@ -99,6 +99,30 @@ class CardModelTest {
     }
 
 
+    @Test
+    void testOf_DevuelveInstanciaCompartida() {
+        assertSame(CardModel.of("A", "corazones"), CardModel.of(asCorazones.ordinal));
+        assertEquals(asCorazones, CardModel.of("A", "corazones"));
+        assertEquals(asCorazones.hashCode(), CardModel.of("A", "corazones").hashCode());
+    }
+
+
+    @Test
+    void testOrdinal_UnicoParaLas52Cartas() {
+        for (int i = 0; i < CardModel.DECK_SIZE; i++) {
+            CardModel c = CardModel.of(i);
+            assertEquals(i, c.ordinal);
+            assertEquals(c, new CardModel(c.rank, c.suit));
+        }
+    }
+
+
+    @Test
+    void testConstructor_RankInvalidoLanzaExcepcion() {
+        assertThrows(IllegalArgumentException.class, () -> new CardModel("X", "picas"));
+    }
+
+
     @Test
     void testToString_FormatoCorrecto() {
         assertEquals("A corazones", asCorazones.toString());
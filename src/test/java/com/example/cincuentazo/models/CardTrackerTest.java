@@ -0,0 +1,108 @@
+package com.example.cincuentazo.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class CardTrackerTest {
+
+    private static final int RANKS = CardModel.RANKS.size();
+
+    /**
+     * Cards the player has not seen, recounted from the engine (no buried cards).
+     */
+    private static long unseenMask(GameEngine engine, PlayerModel player) {
+        PackedState state = engine.pack();
+        long seen = player.getHand().mask() | state.discardMask();
+        if (state.lastPlayed() >= 0) seen |= CardMask.bit(state.lastPlayed());
+        return CardMask.ALL & ~seen;
+    }
+
+    private static void assertMatchesRecount(GameEngine engine) {
+        CardTracker tracker = engine.getCardTracker();
+        for (PlayerModel p : engine.getPlayers()) {
+            long unseen = unseenMask(engine, p);
+            assertEquals(CardMask.count(unseen), tracker.unseenCount(p));
+
+            double total = 0.0;
+            double expected = 0.0;
+            for (int rank = 0; rank < RANKS; rank++) {
+                int count = 0;
+                for (long m = unseen; m != 0; m &= m - 1) {
+                    if (Long.numberOfTrailingZeros(m) % RANKS == rank) count++;
+                }
+                assertEquals(count, tracker.unseen(p, rank));
+                total += tracker.drawProbability(p, rank);
+            }
+            for (long m = unseen; m != 0; m &= m - 1) {
+                expected += TransitionTable.delta(engine.getTableSum(), Long.numberOfTrailingZeros(m));
+            }
+            assertEquals(1.0, total, 1e-9);
+            assertEquals(expected / CardMask.count(unseen),
+                    tracker.expectedDrawValue(p, engine.getTableSum()), 1e-9);
+        }
+    }
+
+
+    @Test
+    void testTracker_FollowsEveryMoveAndRefill() {
+        GameEngine engine = new GameEngine(new SplittableRandom(12));
+        engine.startGame(2, false);
+        assertEquals(CardModel.DECK_SIZE - 1 - 4, engine.getCardTracker().unseenCount(engine.getPlayers().get(0)));
+
+        // Long enough for the discard pile to go back into the deck
+        for (int turn = 0; turn < 120 && engine.playCpuTurn(); turn++) {
+            if (engine.getPlayers().get(0).isEliminated() || engine.getPlayers().get(1).isEliminated()) break;
+            assertMatchesRecount(engine);
+        }
+    }
+
+
+    @Test
+    void testTracker_CountsEliminatedHandsAsSeen() {
+        // Player 1 only holds tens on a sum of 45, so it is stuck
+        long[] hands = {
+                cards("J picas", "2 picas"),
+                cards("10 picas", "10 corazones", "10 diamantes"),
+                cards("J corazones", "3 picas")
+        };
+        int last = CardModel.of("5", "picas").ordinal;
+        PackedState state = new PackedState();
+        long used = CardMask.bit(last);
+        for (int seat = 0; seat < hands.length; seat++) {
+            state.setHand(seat, hands[seat]);
+            used |= hands[seat];
+        }
+        int deckSize = 0;
+        for (long m = CardMask.ALL & ~used; m != 0; m &= m - 1) {
+            state.setDeckCard(deckSize++, Long.numberOfTrailingZeros(m));
+        }
+        state.setMeta(45, last, 0, 0, 1, 3, deckSize);
+
+        GameEngine engine = new GameEngine(new SplittableRandom(3));
+        engine.unpack(state);
+        CardTracker tracker = engine.getCardTracker();
+        PlayerModel other = engine.getPlayers().get(2);
+        int ten = CardModel.of("10", "treboles").rankCode;
+        assertEquals(CardModel.DECK_SIZE - 1 - 2, tracker.unseenCount(other));
+        assertEquals(0, tracker.seen(other, ten));
+
+        assertTrue(engine.eliminateIfStuck(engine.getPlayers().get(1)));
+
+        assertEquals(CardModel.DECK_SIZE - 1 - 2 - 3, tracker.unseenCount(other));
+        assertEquals(3, tracker.seen(other, ten));
+        assertEquals(1.0, tracker.drawProbability(other, ten) * tracker.unseenCount(other), 1e-9);
+    }
+
+    private static long cards(String... names) {
+        long mask = 0L;
+        for (String name : names) {
+            String[] parts = name.split(" ");
+            mask |= CardMask.bit(CardModel.of(parts[0], parts[1]));
+        }
+        return mask;
+    }
+}
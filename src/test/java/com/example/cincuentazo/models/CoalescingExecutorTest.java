@@ -0,0 +1,70 @@
+package com.example.cincuentazo.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class CoalescingExecutorTest {
+
+    @Test
+    void testFlush_RunsEachPendingTaskOnceInPostOrder() {
+        CoalescingExecutor executor = new CoalescingExecutor();
+        List<String> order = new ArrayList<>();
+        Runnable refresh = () -> order.add("refresh");
+        Runnable check = () -> order.add("check");
+
+        for (int i = 0; i < 100; i++) {
+            executor.execute(refresh);
+            executor.execute(check);
+        }
+
+        assertEquals(2, executor.flush());
+        assertEquals(List.of("refresh", "check"), order);
+        assertEquals(0, executor.flush());
+    }
+
+    @Test
+    void testFlush_TaskPostedDuringFlushRunsOnNextFlush() {
+        CoalescingExecutor executor = new CoalescingExecutor();
+        AtomicInteger runs = new AtomicInteger();
+        Runnable[] task = new Runnable[1];
+        task[0] = () -> {
+            runs.incrementAndGet();
+            executor.execute(task[0]);
+        };
+
+        executor.execute(task[0]);
+        assertEquals(1, executor.flush());
+        assertEquals(1, runs.get());
+        assertEquals(1, executor.flush());
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void testExecute_FromManyThreadsCoalesces() throws Exception {
+        CoalescingExecutor executor = new CoalescingExecutor();
+        AtomicInteger runs = new AtomicInteger();
+        Runnable task = runs::incrementAndGet;
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 10_000; i++) {
+                pool.execute(() -> executor.execute(task));
+            }
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        executor.flush();
+        assertEquals(1, runs.get());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.cincuentazo.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class CpuStrategyTest {
+
+    @Test
+    void testGreedy_MatchesTheEngineRule() {
+        GameEngine engine = new GameEngine(new SplittableRandom(2));
+        engine.startGame(3, false);
+        CpuStrategy greedy = CpuStrategy.greedy();
+
+        for (int turn = 0; turn < 20 && !engine.hasWinner(); turn++) {
+            PlayerModel cpu = engine.currentPlayer();
+            assertSame(engine.cpuChooseCard(cpu), greedy.chooseCard(engine, cpu));
+            engine.playCpuTurn();
+        }
+    }
+
+
+    @Test
+    void testRandom_PlaysEveryPlayableCard() {
+        GameEngine engine = new GameEngine(new SplittableRandom(2));
+        long playable;
+        do {
+            engine.startGame(2, false);
+            playable = engine.currentPlayer().getHand().mask() & TransitionTable.legalMask(engine.getTableSum());
+        } while (Long.bitCount(playable) < 2);
+
+        CpuStrategy random = CpuStrategy.random(new SplittableRandom(9));
+        long chosen = 0L;
+        for (int i = 0; i < 200; i++) {
+            chosen |= CardMask.bit(random.chooseCard(engine, engine.currentPlayer()));
+        }
+        assertEquals(playable, chosen);
+    }
+
+
+    @Test
+    void testChooseCards_MatchesChooseCardForEachPosition() {
+        GameEngine engine = new GameEngine(new SplittableRandom(4));
+        engine.startGame(4, false);
+        PackedState[] positions = new PackedState[12];
+        int[] expected = new int[positions.length];
+        int count = 0;
+        while (count < positions.length && !engine.hasWinner()) {
+            positions[count] = engine.pack();
+            CardModel card = engine.cpuChooseCard(engine.currentPlayer());
+            expected[count++] = card != null ? card.ordinal : -1;
+            engine.playCpuTurn();
+        }
+
+        int[] cards = new int[positions.length];
+        CpuStrategy.greedy().chooseCards(positions, count, cards);
+        for (int i = 0; i < count; i++) {
+            assertEquals(expected[i], cards[i]);
+        }
+    }
+}
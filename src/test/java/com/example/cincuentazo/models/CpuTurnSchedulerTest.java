@@ -0,0 +1,62 @@
+package com.example.cincuentazo.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class CpuTurnSchedulerTest {
+
+    @Test
+    void testSearch_DoesNotBlockTheOwnerThread() throws Exception {
+        ScheduledExecutorService owner = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService searches = Executors.newSingleThreadExecutor();
+        try {
+            GameEngine engine = new GameEngine(new SplittableRandom(5));
+            engine.startGame(2, false);
+
+            CountDownLatch searching = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Thread[] searchThread = new Thread[1];
+            engine.setCpuStrategy((e, cpu) -> {
+                searchThread[0] = Thread.currentThread();
+                searching.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return e.cpuChooseCard(cpu);
+            });
+
+            GameCommandQueue queue = new GameCommandQueue(engine, owner);
+            CountDownLatch refreshed = new CountDownLatch(1);
+            CpuTurnScheduler scheduler = new CpuTurnScheduler(queue, owner, searches, Runnable::run,
+                    refreshed::countDown, () -> { }, () -> { });
+            scheduler.setSearchMillis(CpuTurnScheduler.MIN_THINK_MILLIS);
+            scheduler.start();
+
+            assertTrue(searching.await(5, TimeUnit.SECONDS));
+            long version = engine.snapshot().version();
+
+            // The owner thread keeps serving commands while the CPU searches
+            assertEquals(42, queue.submit(e -> 42).get(1, TimeUnit.SECONDS));
+            assertNotSame(searchThread[0], owner.submit(Thread::currentThread).get(1, TimeUnit.SECONDS));
+
+            release.countDown();
+            assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+            assertTrue(engine.snapshot().version() > version);
+            scheduler.requestStop();
+        } finally {
+            owner.shutdownNow();
+            searches.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.cincuentazo.models;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class DeckModelTest {
+
+    private DeckModel deck;
+
+    @BeforeEach
+    void setUp() {
+        deck = new DeckModel(new SplittableRandom(1));
+    }
+
+
+    @Test
+    void testConstructor_Has52DistinctCards() {
+        assertEquals(CardModel.DECK_SIZE, deck.size());
+
+        long seen = 0L;
+        CardModel c;
+        while ((c = deck.draw()) != null) {
+            assertEquals(0L, seen & CardMask.bit(c), "duplicated " + c);
+            seen |= CardMask.bit(c);
+        }
+        assertEquals(CardMask.ALL, seen);
+        assertTrue(deck.isEmpty());
+    }
+
+
+    @Test
+    void testAddToBottom_DrawnLast() {
+        CardModel bottom = CardModel.of("9", "picas");
+        deck.draw();
+        deck.addToBottom(bottom);
+
+        assertSame(bottom, deck.cardAt(0));
+        CardModel last = null;
+        for (int i = 0; i < CardModel.DECK_SIZE; i++) {
+            last = deck.draw();
+        }
+        assertSame(bottom, last);
+        assertNull(deck.draw());
+    }
+
+
+    @Test
+    void testAddToTop_DrawnFirst() {
+        DeckModel pile = DeckModel.empty(new SplittableRandom(2));
+        CardModel a = CardModel.of("A", "picas");
+        CardModel b = CardModel.of("K", "treboles");
+        pile.addToTop(a);
+        pile.addToTop(b);
+
+        assertSame(b, pile.draw());
+        assertSame(a, pile.draw());
+        assertTrue(pile.isEmpty());
+    }
+
+
+    @Test
+    void testRefillFrom_MovesEveryCardAndEmptiesPile() {
+        DeckModel pile = DeckModel.empty(new SplittableRandom(3));
+        CardModel c;
+        while ((c = deck.draw()) != null) {
+            pile.addToTop(c);
+        }
+
+        deck.refillFrom(pile);
+
+        assertEquals(CardModel.DECK_SIZE, deck.size());
+        assertTrue(pile.isEmpty());
+        pile.addToTop(CardModel.of(0));
+        assertEquals(1, pile.size());
+    }
+
+
+    @Test
+    void testRefillFrom_NonEmptyDeckThrows() {
+        DeckModel pile = DeckModel.empty(new SplittableRandom(4));
+        assertThrows(IllegalStateException.class, () -> deck.refillFrom(pile));
+    }
+}
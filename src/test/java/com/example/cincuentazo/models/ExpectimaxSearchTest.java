@@ -0,0 +1,86 @@
+package com.example.cincuentazo.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class ExpectimaxSearchTest {
+
+    @Test
+    void testClassOf_FiguresShareAClass() {
+        assertEquals(0, ExpectimaxSearch.classOf(CardModel.of("A", "treboles").ordinal));
+        assertEquals(9, ExpectimaxSearch.classOf(CardModel.of("10", "corazones").ordinal));
+        int jack = ExpectimaxSearch.classOf(CardModel.of("J", "picas").ordinal);
+        assertEquals(jack, ExpectimaxSearch.classOf(CardModel.of("Q", "diamantes").ordinal));
+        assertEquals(jack, ExpectimaxSearch.classOf(CardModel.of("K", "treboles").ordinal));
+    }
+
+
+    @Test
+    void testChooseCard_AlwaysLegalFromHand() {
+        ExpectimaxSearch search = new ExpectimaxSearch(new TranspositionTable(14), 1, ExpectimaxSearch.NO_TIME_LIMIT);
+        GameEngine engine = new GameEngine(new SplittableRandom(8));
+
+        for (int game = 0; game < 5; game++) {
+            engine.startGame(3, false);
+            for (int turn = 0; turn < 40 && !engine.hasWinner(); turn++) {
+                PlayerModel cpu = engine.currentPlayer();
+                CardModel chosen = search.chooseCard(engine, cpu);
+                if (chosen == null) {
+                    assertFalse(engine.hasPlayableCard(cpu));
+                    engine.eliminateIfStuck(cpu);
+                } else {
+                    assertTrue(cpu.getHand().contains(chosen));
+                    assertTrue(engine.applyResult(chosen).ok());
+                }
+                if (!engine.hasWinner()) engine.nextTurn();
+            }
+        }
+    }
+
+
+    @Test
+    void testChooseCard_DoesNotModifyEngine() {
+        GameEngine engine = new GameEngine(new SplittableRandom(4));
+        engine.startGame(4, false);
+        PackedState before = engine.pack();
+        long hash = engine.zobristHash();
+
+        new ExpectimaxSearch(new TranspositionTable(14), 1, ExpectimaxSearch.NO_TIME_LIMIT).chooseCard(engine, engine.currentPlayer());
+
+        assertEquals(before, engine.pack());
+        assertEquals(hash, engine.zobristHash());
+    }
+
+
+    @Test
+    void testLookAhead_PlaysWholeGames() {
+        GameEngine engine = new GameEngine(new SplittableRandom(2));
+        engine.setCpuStrategy(new ExpectimaxSearch(new TranspositionTable(14), 1, ExpectimaxSearch.NO_TIME_LIMIT));
+        engine.startGame(2, false);
+
+        int turns = 0;
+        while (engine.playCpuTurn() && turns < 2_000) turns++;
+        assertTrue(turns > 0);
+    }
+
+
+    @Test
+    void testChooseCard_WithoutTimeLimitIsReproducible() {
+        GameEngine engine = new GameEngine(new SplittableRandom(11));
+        engine.startGame(3, false);
+
+        for (int turn = 0; turn < 20 && !engine.hasWinner(); turn++) {
+            PlayerModel cpu = engine.currentPlayer();
+            CardModel a = new ExpectimaxSearch(new TranspositionTable(14), 1, ExpectimaxSearch.NO_TIME_LIMIT)
+                    .chooseCard(engine, cpu);
+            CardModel b = new ExpectimaxSearch(new TranspositionTable(14), 1, ExpectimaxSearch.NO_TIME_LIMIT)
+                    .chooseCard(engine, cpu);
+            assertSame(a, b);
+            engine.playCpuTurn(a);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.cincuentazo.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class GameCommandQueueTest {
+
+    @Test
+    void testSubmit_RunsCommandsInOrderOneAtATime() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            GameCommandQueue queue = new GameCommandQueue(new GameEngine(), pool);
+            List<Integer> order = new ArrayList<>();
+            int[] running = {0};
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 1_000; i++) {
+                int n = i;
+                futures.add(queue.submit(engine -> {
+                    assertEquals(0, running[0]++);
+                    order.add(n);
+                    running[0]--;
+                    return n;
+                }));
+            }
+
+            for (CompletableFuture<Integer> f : futures) {
+                f.get(5, TimeUnit.SECONDS);
+            }
+            for (int i = 0; i < 1_000; i++) {
+                assertEquals(i, order.get(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSubmit_FailedCommandCompletesExceptionally() {
+        GameCommandQueue queue = new GameCommandQueue(new GameEngine(), Runnable::run);
+
+        CompletableFuture<Object> f = queue.submit(engine -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertTrue(f.isCompletedExceptionally());
+        assertEquals(7, queue.submit(engine -> 7).join());
+    }
+}
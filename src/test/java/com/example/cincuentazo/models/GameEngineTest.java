@@ -0,0 +1,191 @@
+package com.example.cincuentazo.models;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class GameEngineTest {
+
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine(new SplittableRandom(5));
+        engine.startGame(3);
+    }
+
+
+    @Test
+    void testStartGame_DealsHandsAndNoWinner() {
+        assertEquals(3, engine.getActivePlayers());
+        assertFalse(engine.hasWinner());
+        assertNull(engine.getWinner());
+        for (PlayerModel p : engine.getPlayers()) {
+            assertEquals(4, p.getHand().size());
+        }
+        assertNotNull(engine.getLastPlayed());
+    }
+
+
+    @Test
+    void testSetEliminated_UpdatesActiveCountAndWinner() {
+        List<PlayerModel> players = engine.getPlayers();
+
+        players.get(0).setEliminated(true);
+        assertEquals(2, engine.getActivePlayers());
+        assertFalse(engine.hasWinner());
+
+        players.get(2).setEliminated(true);
+        assertTrue(engine.hasWinner());
+        assertSame(players.get(1), engine.getWinner());
+
+        // Setting the same flag twice does not count twice
+        players.get(2).setEliminated(true);
+        assertEquals(1, engine.getActivePlayers());
+
+        players.get(0).setEliminated(false);
+        assertFalse(engine.hasWinner());
+        assertNull(engine.getWinner());
+    }
+
+
+    @Test
+    void testStartGame_OldPlayersNoLongerCounted() {
+        PlayerModel old = engine.getPlayers().get(1);
+        engine.startGame(2);
+
+        old.setEliminated(true);
+        assertEquals(2, engine.getActivePlayers());
+    }
+
+
+    @Test
+    void testNextTurn_NotifiesTurnListeners() {
+        List<PlayerModel> notified = new ArrayList<>();
+        TurnListener listener = (e, current) -> notified.add(current);
+        engine.addTurnListener(listener);
+
+        engine.nextTurn();
+        assertEquals(1, notified.size());
+        assertSame(engine.currentPlayer(), notified.get(0));
+
+        engine.removeTurnListener(listener);
+        engine.nextTurn();
+        assertEquals(1, notified.size());
+    }
+
+
+    @Test
+    void testPublishSnapshot_IsDetachedFromEngine() {
+        GameSnapshot before = engine.publishSnapshot();
+        PlayerModel human = engine.getPlayers().get(0);
+        assertEquals(human.getHand().mask(), before.handMask(0));
+        assertEquals(engine.getTableSum(), before.tableSum());
+        assertTrue(before.isHuman(0));
+
+        CardModel card = human.getHand().view().get(0);
+        human.getHand().removeCard(card);
+
+        // The published snapshot does not change until the next publication
+        assertSame(before, engine.snapshot());
+        assertNotEquals(human.getHand().mask(), before.handMask(0));
+
+        GameSnapshot after = engine.publishSnapshot();
+        assertEquals(human.getHand().mask(), after.handMask(0));
+        assertTrue(after.version() > before.version());
+    }
+
+
+    @Test
+    void testZobristHash_IncrementalMatchesRecomputed() {
+        GameEngine e = new GameEngine(new SplittableRandom(5));
+        for (int game = 0; game < 20; game++) {
+            e.startGame(2 + game % 3, false);
+            assertEquals(e.computeZobrist(), e.zobristHash());
+            // Long enough to go through refills and eliminations
+            for (int turn = 0; turn < 300 && e.playCpuTurn(); turn++) {
+                assertEquals(e.computeZobrist(), e.zobristHash(), "game " + game + " turn " + turn);
+            }
+            assertEquals(e.computeZobrist(), e.zobristHash());
+        }
+    }
+
+
+    @Test
+    void testZobristHash_FollowsUnpackAndPosition() {
+        long start = engine.zobristHash();
+        PackedState state = engine.pack();
+
+        engine.nextTurn();
+        assertNotEquals(start, engine.zobristHash());
+
+        engine.unpack(state);
+        assertEquals(start, engine.zobristHash());
+    }
+
+
+    @Test
+    void testPlayCpuTurn_UsesTheStrategyOfTheSeat() {
+        engine.startGame(3, false);
+        List<Integer> seats = new ArrayList<>();
+        engine.setCpuStrategy(1, (e, cpu) -> {
+            seats.add(e.getPlayers().indexOf(cpu));
+            return e.cpuChooseCard(cpu);
+        });
+
+        for (int i = 0; i < 6 && engine.playCpuTurn(); i++) {
+            // two rounds
+        }
+
+        assertFalse(seats.isEmpty());
+        for (int seat : seats) {
+            assertEquals(1, seat);
+        }
+        assertNotNull(engine.getCpuStrategy(0));
+    }
+
+
+    @Test
+    void testPlayCpuTurn_RejectsCardsThatCannotBePlayed() {
+        engine.startGame(2, false);
+        PlayerModel other = engine.getPlayers().get(1);
+
+        assertThrows(IllegalArgumentException.class, () -> engine.playCpuTurn(other.getHand().get(0)));
+        assertTrue(engine.playCpuTurn(engine.cpuChooseCard(engine.currentPlayer())));
+        assertSame(other, engine.currentPlayer());
+    }
+
+
+    @Test
+    void testPlayCpuTurn_RejectsIllegalCardsFromTheStrategy() {
+        engine.startGame(2, false);
+        PlayerModel other = engine.getPlayers().get(1);
+        CardModel notHeld = other.getHand().get(0);
+        engine.setCpuStrategy((e, cpu) -> notHeld);
+        PackedState before = engine.pack();
+
+        assertThrows(IllegalStateException.class, () -> engine.playCpuTurn());
+        assertEquals(before, engine.pack());
+
+        // A held card that would push the sum past 50
+        engine.setCpuStrategy(null);
+        CardModel tooHigh = null;
+        for (int turn = 0; tooHigh == null && turn < 200 && engine.playCpuTurn(); turn++) {
+            for (CardModel c : engine.currentPlayer().getHand().view()) {
+                if (!engine.isPlayable(c)) tooHigh = c;
+            }
+        }
+        assertNotNull(tooHigh);
+        CardModel chosen = tooHigh;
+        engine.setCpuStrategy((e, cpu) -> chosen);
+        PackedState position = engine.pack();
+        assertThrows(IllegalStateException.class, () -> engine.playCpuTurn());
+        assertEquals(position, engine.pack());
+    }
+}
@@ -128,6 +128,45 @@ class HandModelTest {
         assertFalse(hand.contains(card3));
     }
 
+    @Test
+    void testMask_TracksAddRemoveAndClear() {
+        hand.add(card1);
+        hand.add(card2);
+        assertEquals(CardMask.bit(card1) | CardMask.bit(card2), hand.mask());
+
+        hand.removeCard(card1);
+        assertEquals(CardMask.bit(card2), hand.mask());
+
+        hand.removeAt(0);
+        assertEquals(0L, hand.mask());
+
+        hand.add(card3);
+        hand.clear();
+        assertEquals(0L, hand.mask());
+    }
+
+
+    @Test
+    void testAdd_DuplicateCardIsIgnored() {
+        hand.add(card1);
+        hand.add(new CardModel("A", "corazones"));
+
+        assertEquals(1, hand.size());
+    }
+
+
+    @Test
+    void testHasPlayable_UsesTableSum() {
+        hand.add(new CardModel("8", "picas"));
+
+        assertTrue(hand.hasPlayable(42));   // 42 + 8 = 50
+        assertFalse(hand.hasPlayable(43));  // 43 + 8 = 51
+
+        hand.add(card2);                    // K: -10
+        assertTrue(hand.hasPlayable(55));
+    }
+
+
     @Test
     void testToString_NotEmptyIncludesSize() {
         hand.add(card1);
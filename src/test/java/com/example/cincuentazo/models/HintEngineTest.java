@@ -0,0 +1,126 @@
+package com.example.cincuentazo.models;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class HintEngineTest {
+
+    private static final int SAMPLES = 64;
+
+    private final AtomicInteger tasks = new AtomicInteger();
+    /** Runs the evaluations right away, on the calling thread */
+    private final Executor direct = task -> {
+        tasks.incrementAndGet();
+        task.run();
+    };
+
+    private HintEngine hints;
+    private List<HintEngine.Hint> received;
+
+    @BeforeEach
+    void setUp() {
+        hints = new HintEngine(direct, SAMPLES, 8, 7);
+        received = new ArrayList<>();
+        hints.setListener(received::add);
+    }
+
+    /**
+     * Starts a two-player game with the human to play and at least two distinct choices.
+     */
+    private GameEngine humanTurnWithChoices() {
+        for (int seed = 0; ; seed++) {
+            GameEngine engine = new GameEngine(new SplittableRandom(seed));
+            engine.startGame(2);
+            long hand = engine.currentPlayer().getHand().mask();
+            long playable = hand & TransitionTable.legalMask(engine.getTableSum());
+            if (Long.bitCount(playable) >= 2) return engine;
+        }
+    }
+
+
+    @Test
+    void testOnTurnChanged_RanksTheHandWhileImproving() {
+        GameEngine engine = humanTurnWithChoices();
+        hints.onTurnChanged(engine, engine.currentPlayer());
+
+        assertTrue(received.size() > 1);
+        for (int i = 1; i < received.size(); i++) {
+            assertTrue(received.get(i).samples() > received.get(i - 1).samples());
+        }
+
+        HintEngine.Hint hint = received.get(received.size() - 1);
+        assertEquals(SAMPLES, hint.samples());
+
+        long hand = engine.currentPlayer().getHand().mask();
+        CardModel[] ranking = hint.ranking();
+        assertEquals(Long.bitCount(hand), ranking.length);
+        assertSame(hint.best(), ranking[0]);
+        assertTrue(engine.isPlayable(hint.best()));
+        for (int i = 0; i < ranking.length; i++) {
+            assertTrue(engine.currentPlayer().getHand().contains(ranking[i]));
+            double p = hint.winProbability(ranking[i]);
+            assertTrue(p >= 0.0 && p <= 1.0);
+            if (i > 0 && engine.isPlayable(ranking[i])) {
+                assertTrue(hint.winProbability(ranking[i - 1]) >= p);
+            }
+        }
+    }
+
+
+    @Test
+    void testOnTurnChanged_AnswersEvaluatedPositionsFromCache() {
+        GameEngine engine = humanTurnWithChoices();
+        hints.onTurnChanged(engine, engine.currentPlayer());
+        HintEngine.Hint first = received.get(received.size() - 1);
+        assertEquals(1, tasks.get());
+
+        // The same position, seen again: no new evaluation
+        received.clear();
+        GameEngine again = new GameEngine(new SplittableRandom(1));
+        again.unpack(engine.pack());
+        hints.onTurnChanged(again, again.currentPlayer());
+
+        assertEquals(1, tasks.get());
+        assertEquals(List.of(first), received);
+        assertSame(first, hints.cachedHint(engine.pack(), engine.currentSeat()));
+    }
+
+
+    @Test
+    void testOnTurnChanged_ClearsTheHintOnCpuTurns() {
+        GameEngine engine = humanTurnWithChoices();
+        engine.addTurnListener(hints);
+
+        // The human plays; the CPU gets the turn
+        assertTrue(engine.applyResult(engine.cpuChooseCard(engine.currentPlayer())).ok());
+        engine.nextTurn();
+
+        assertEquals(0, tasks.get());
+        assertEquals(1, received.size());
+        assertNull(received.get(0));
+    }
+
+
+    @Test
+    void testCancel_StopsTheEvaluation() {
+        GameEngine engine = humanTurnWithChoices();
+        HintEngine cancelling = new HintEngine(direct, 10 * SAMPLES, 8, 7);
+        cancelling.setListener(hint -> {
+            received.add(hint);
+            cancelling.cancel();
+        });
+        cancelling.onTurnChanged(engine, engine.currentPlayer());
+
+        assertEquals(1, received.size());
+        assertTrue(received.get(0).samples() < 10 * SAMPLES);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.cincuentazo.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class MctsSearchTest {
+
+    @Test
+    void testChooseCard_AlwaysLegalFromHand() {
+        MctsSearch search = new MctsSearch(1_000, 2, 200, 1);
+        GameEngine engine = new GameEngine(new SplittableRandom(8));
+
+        for (int game = 0; game < 3; game++) {
+            engine.startGame(3, false);
+            for (int turn = 0; turn < 30 && !engine.hasWinner(); turn++) {
+                PlayerModel cpu = engine.currentPlayer();
+                CardModel chosen = search.chooseCard(engine, cpu);
+                if (chosen == null) {
+                    assertFalse(engine.hasPlayableCard(cpu));
+                    engine.eliminateIfStuck(cpu);
+                } else {
+                    assertTrue(cpu.getHand().contains(chosen));
+                    assertTrue(engine.applyResult(chosen).ok());
+                }
+                if (!engine.hasWinner()) engine.nextTurn();
+            }
+        }
+    }
+
+
+    @Test
+    void testChooseCard_DoesNotModifyEngine() {
+        GameEngine engine = new GameEngine(new SplittableRandom(4));
+        engine.startGame(4);
+        engine.nextTurn();
+        PackedState before = engine.pack();
+
+        MctsSearch search = new MctsSearch(1_000, 1, 300, 2);
+        search.chooseCard(engine, engine.currentPlayer());
+
+        assertEquals(before, engine.pack());
+        assertTrue(search.iterations() > 0);
+    }
+
+
+    @Test
+    void testChooseCard_ReproducibleWithSeedAndIterations() {
+        GameEngine engine = new GameEngine(new SplittableRandom(6));
+        engine.startGame(2, false);
+
+        for (int turn = 0; turn < 10 && !engine.hasWinner(); turn++) {
+            CardModel a = new MctsSearch(10_000, 1, 300, 9).chooseCard(engine, engine.currentPlayer());
+            CardModel b = new MctsSearch(10_000, 1, 300, 9).chooseCard(engine, engine.currentPlayer());
+            assertEquals(a, b);
+            engine.playCpuTurn();
+        }
+    }
+
+
+    @Test
+    void testMcts_BeatsGreedy() {
+        // The search plays seat 0 against greedy CPUs
+        GameEngine engine = new GameEngine(new SplittableRandom(12));
+        MctsSearch search = new MctsSearch(10_000, 1, 300, 3);
+        int wins = 0;
+        int games = 30;
+
+        for (int game = 0; game < games; game++) {
+            engine.startGame(2, false);
+            for (int turn = 0; turn < 2_000 && !engine.hasWinner(); turn++) {
+                PlayerModel cpu = engine.currentPlayer();
+                if (cpu != engine.getPlayers().get(0)) {
+                    engine.playCpuTurn();
+                    continue;
+                }
+                CardModel chosen = search.chooseCard(engine, cpu);
+                if (chosen == null) engine.eliminateIfStuck(cpu);
+                else engine.applyResult(chosen);
+                if (!engine.hasWinner()) engine.nextTurn();
+            }
+            if (engine.getWinner() == engine.getPlayers().get(0)) wins++;
+        }
+        assertTrue(wins > games * 2 / 3, "wins: " + wins);
+    }
+
+
+    @Test
+    void testChooseCards_PlayableCardOfEveryPosition() {
+        GameEngine engine = new GameEngine(new SplittableRandom(6));
+        PackedState[] positions = new PackedState[5];
+        for (int i = 0; i < positions.length; i++) {
+            engine.startGame(3, false);
+            for (int turn = 0; turn < i && engine.playCpuTurn(); turn++) {
+                // a different position for each entry
+            }
+            positions[i] = engine.pack();
+        }
+
+        int[] cards = new int[positions.length];
+        new MctsSearch(1_000, 2, 100, 3).chooseCards(positions, positions.length, cards);
+
+        for (int i = 0; i < positions.length; i++) {
+            PackedState p = positions[i];
+            long playable = p.handMask(p.currentPlayer()) & TransitionTable.legalMask(p.tableSum());
+            if (playable == 0) {
+                assertEquals(-1, cards[i]);
+            } else {
+                assertNotEquals(0L, playable & CardMask.bit(cards[i]));
+            }
+        }
+    }
+
+
+    @Test
+    void testChooseCards_RunsExtraTreesOnTheGivenExecutor() {
+        GameEngine engine = new GameEngine(new SplittableRandom(6));
+        engine.startGame(2, false);
+        PackedState[] positions = {engine.pack()};
+
+        AtomicInteger submitted = new AtomicInteger();
+        MctsSearch search = new MctsSearch(1_000, 3, 50, 4, task -> {
+            submitted.incrementAndGet();
+            new Thread(task).start();
+        });
+        int[] cards = new int[1];
+        search.chooseCards(positions, 1, cards);
+
+        assertEquals(2, submitted.get());
+        assertNotEquals(0L, positions[0].handMask(positions[0].currentPlayer()) & CardMask.bit(cards[0]));
+    }
+}
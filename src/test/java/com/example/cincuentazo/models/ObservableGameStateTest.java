@@ -0,0 +1,67 @@
+package com.example.cincuentazo.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class ObservableGameStateTest {
+
+    @Test
+    void testUpdate_NotifiesOnlyTheHandsThatChanged() {
+        GameEngine engine = new GameEngine(new SplittableRandom(5));
+        engine.startGame(2, false);
+        ObservableGameState state = new ObservableGameState(2);
+        state.update(engine.publishSnapshot());
+
+        int mover = state.currentPlayerProperty().get();
+        int other = 1 - mover;
+        long before = state.handProperty(mover).get();
+        List<Long> moverChanges = new ArrayList<>();
+        int[] otherChanges = {0};
+        state.handProperty(mover).addListener((obs, old, hand) -> moverChanges.add(old.longValue() & ~hand.longValue()));
+        state.handProperty(other).addListener((obs, old, hand) -> otherChanges[0]++);
+
+        CardModel played = engine.cpuChooseCard(engine.currentPlayer());
+        assertNotNull(played);
+        engine.playCpuTurn(played);
+        GameSnapshot after = engine.publishSnapshot();
+        state.update(after);
+
+        assertEquals(List.of(CardMask.bit(played)), moverChanges);
+        assertEquals(0, otherChanges[0]);
+        assertEquals(after.handMask(mover), state.handProperty(mover).get());
+        assertNotEquals(before, state.handProperty(mover).get());
+        assertEquals(played, state.lastPlayedProperty().get());
+        assertEquals(after.tableSum(), state.tableSumProperty().get());
+        assertEquals(other, state.currentPlayerProperty().get());
+        assertSame(after, state.snapshot());
+    }
+
+    @Test
+    void testUpdate_IgnoresOlderSnapshots() {
+        GameEngine engine = new GameEngine(new SplittableRandom(7));
+        engine.startGame(3, false);
+        GameSnapshot first = engine.publishSnapshot();
+        engine.playCpuTurn();
+        GameSnapshot second = engine.publishSnapshot();
+
+        ObservableGameState state = new ObservableGameState(3);
+        state.update(second);
+        int[] changes = {0};
+        state.currentPlayerProperty().addListener((obs, old, seat) -> changes[0]++);
+        state.tableSumProperty().addListener((obs, old, sum) -> changes[0]++);
+
+        state.update(first);
+        state.update(second);
+        state.update(null);
+
+        assertSame(second, state.snapshot());
+        assertEquals(0, changes[0]);
+        assertEquals(second.currentPlayer(), state.currentPlayerProperty().get());
+    }
+}
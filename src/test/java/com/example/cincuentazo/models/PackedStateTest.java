@@ -0,0 +1,155 @@
+package com.example.cincuentazo.models;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class PackedStateTest {
+
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine(new SplittableRandom(3));
+        engine.startGame(3, false);
+        for (int i = 0; i < 10 && engine.playCpuTurn(); i++) {
+            // advance to a mid-game position
+        }
+    }
+
+
+    @Test
+    void testPack_ReadsBackEngineState() {
+        PackedState state = engine.pack();
+
+        assertEquals(3, state.playerCount());
+        assertEquals(engine.getTableSum(), state.tableSum());
+        assertEquals(engine.getLastPlayed().ordinal, state.lastPlayed());
+        assertEquals(engine.getPlayers().indexOf(engine.currentPlayer()), state.currentPlayer());
+
+        long all = 0L;
+        for (int seat = 0; seat < 3; seat++) {
+            PlayerModel p = engine.getPlayers().get(seat);
+            assertEquals(p.getHand().mask(), state.handMask(seat));
+            assertEquals(p.isEliminated(), state.isEliminated(seat));
+            assertFalse(state.isHuman(seat));
+            all |= state.handMask(seat);
+        }
+
+        // Every card is in exactly one place
+        int cards = CardMask.count(all) + CardMask.count(state.discardMask()) + state.deckSize() + 1;
+        for (int i = 0; i < state.deckSize(); i++) {
+            all |= CardMask.bit(state.deckCardAt(i));
+        }
+        all |= state.discardMask() | CardMask.bit(state.lastPlayed());
+        assertEquals(CardModel.DECK_SIZE, cards);
+        assertEquals(CardMask.ALL, all);
+    }
+
+
+    @Test
+    void testPack_StoresNegativeSums() {
+        PackedState state = new PackedState();
+        // Greedy players can push the sum far below zero
+        state.setMeta(-5_130, -1, 0, 1, 1, 2, 52);
+
+        assertEquals(-5_130, state.tableSum());
+        assertEquals(52, state.deckSize());
+        assertEquals(-1, state.lastPlayed());
+        assertTrue(state.isHuman(0));
+        assertEquals(1, state.currentPlayer());
+        assertEquals(2, state.playerCount());
+    }
+
+
+    @Test
+    void testUnpack_RoundTrip() {
+        PackedState state = engine.pack();
+
+        GameEngine other = new GameEngine(new SplittableRandom(99));
+        other.unpack(state);
+
+        assertEquals(state, other.pack());
+        assertEquals(engine.getTableSum(), other.getTableSum());
+        assertEquals(engine.getActivePlayers(), other.getActivePlayers());
+        assertEquals(engine.hasWinner(), other.hasWinner());
+    }
+
+
+    @Test
+    void testUnpack_PlaysLikeTheOriginal() {
+        GameEngine other = new GameEngine(new SplittableRandom(99));
+        other.unpack(engine.pack());
+
+        // No refill happens in these turns, so both games stay identical
+        for (int i = 0; i < 3; i++) {
+            engine.playCpuTurn();
+            other.playCpuTurn();
+            assertEquals(engine.pack(), other.pack());
+        }
+    }
+
+
+    @Test
+    void testUnpack_RestoresWinner() {
+        engine.getPlayers().get(0).setEliminated(true);
+        engine.getPlayers().get(2).setEliminated(true);
+
+        GameEngine other = new GameEngine(new SplittableRandom(99));
+        other.startGame(3, false);
+        other.unpack(engine.pack());
+
+        assertTrue(other.hasWinner());
+        assertSame(other.getPlayers().get(1), other.getWinner());
+    }
+
+
+    @Test
+    void testCopy_EqualWithSameHash() {
+        PackedState state = engine.pack();
+        PackedState copy = state.copy();
+
+        assertNotSame(state, copy);
+        assertEquals(state, copy);
+        assertEquals(state.hash64(), copy.hash64());
+        assertEquals(state.hashCode(), copy.hashCode());
+
+        engine.playCpuTurn();
+        engine.pack(copy);
+        assertNotEquals(state, copy);
+        assertNotEquals(state.hash64(), copy.hash64());
+
+        copy.copyFrom(state);
+        assertEquals(state, copy);
+    }
+
+
+    @Test
+    void testDeterminize_KeepsWhatTheObserverSees() {
+        PackedState root = engine.pack();
+        int observer = root.currentPlayer();
+        PackedState world = new PackedState();
+        world.determinize(root, observer, new SplittableRandom(11), new int[CardModel.DECK_SIZE]);
+
+        assertEquals(root.observerKey(observer), world.observerKey(observer));
+        assertEquals(root.handMask(observer), world.handMask(observer));
+        assertEquals(root.deckSize(), world.deckSize());
+        assertEquals(0, world.humanBits());
+
+        // Every card is still in exactly one place
+        long all = world.discardMask() | CardMask.bit(world.lastPlayed());
+        for (int seat = 0; seat < world.playerCount(); seat++) {
+            assertEquals(0L, all & world.handMask(seat));
+            all |= world.handMask(seat);
+        }
+        for (int i = 0; i < world.deckSize(); i++) {
+            assertEquals(0L, all & CardMask.bit(world.deckCardAt(i)));
+            all |= CardMask.bit(world.deckCardAt(i));
+        }
+        assertEquals(CardMask.ALL, all);
+    }
+}
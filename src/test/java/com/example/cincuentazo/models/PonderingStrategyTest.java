@@ -0,0 +1,179 @@
+package com.example.cincuentazo.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class PonderingStrategyTest {
+
+    /** Runs the branches right away, on the calling thread */
+    private static final Executor DIRECT = Runnable::run;
+
+    private static final CpuStrategy GREEDY = GameEngine::cpuChooseCard;
+
+    @Test
+    void testChooseCard_UsesReplyPonderedForTheHumanMove() {
+        AtomicInteger fallbackCalls = new AtomicInteger();
+        PonderingStrategy strategy = new PonderingStrategy((e, p) -> {
+            fallbackCalls.incrementAndGet();
+            return e.cpuChooseCard(p);
+        }, () -> GREEDY, DIRECT);
+
+        GameEngine engine = new GameEngine(new SplittableRandom(5));
+        engine.setCpuStrategy(strategy);
+        engine.addTurnListener(strategy);
+        engine.startGame(2);
+
+        for (int round = 0; round < 5 && !engine.hasWinner(); round++) {
+            // Human move: the first playable card
+            PlayerModel human = engine.currentPlayer();
+            CardModel card = engine.cpuChooseCard(human);
+            if (card == null) break;
+            assertTrue(engine.applyResult(card).ok());
+            engine.nextTurn();
+
+            // CPU reply: answered by the pondered branch
+            engine.playCpuTurn();
+        }
+
+        assertTrue(strategy.hits() > 0);
+        assertEquals(0, strategy.misses());
+        assertEquals(0, fallbackCalls.get());
+    }
+
+
+    @Test
+    void testOnTurnChanged_ReusesBranchStrategiesAcrossTurns() {
+        AtomicInteger created = new AtomicInteger();
+        PonderingStrategy strategy = new PonderingStrategy(GREEDY, () -> {
+            created.incrementAndGet();
+            return GREEDY;
+        }, DIRECT);
+
+        GameEngine engine = new GameEngine(new SplittableRandom(5));
+        engine.setCpuStrategy(strategy);
+        engine.addTurnListener(strategy);
+        engine.startGame(2);
+
+        int maxBranches = 0;
+        for (int round = 0; round < 10 && !engine.hasWinner(); round++) {
+            PlayerModel human = engine.currentPlayer();
+            maxBranches = Math.max(maxBranches,
+                    Long.bitCount(human.getHand().mask() & TransitionTable.legalMask(engine.getTableSum())));
+            CardModel card = engine.cpuChooseCard(human);
+            if (card == null) break;
+            assertTrue(engine.applyResult(card).ok());
+            engine.nextTurn();
+            engine.playCpuTurn();
+        }
+
+        assertTrue(strategy.hits() > 1);
+        // One strategy per concurrent branch, not one per branch and turn
+        assertTrue(created.get() <= Math.max(1, maxBranches));
+    }
+
+
+    @Test
+    void testChooseCard_FallsBackWithoutMatchingBranch() {
+        AtomicInteger fallbackCalls = new AtomicInteger();
+        PonderingStrategy strategy = new PonderingStrategy((e, p) -> {
+            fallbackCalls.incrementAndGet();
+            return e.cpuChooseCard(p);
+        }, () -> GREEDY, DIRECT);
+
+        GameEngine engine = new GameEngine(new SplittableRandom(5));
+        engine.addTurnListener(strategy);
+        engine.startGame(2);
+
+        // The human passes without playing: no pondered position matches
+        engine.nextTurn();
+        strategy.chooseCard(engine, engine.currentPlayer());
+
+        assertEquals(0, strategy.hits());
+        assertEquals(1, strategy.misses());
+        assertEquals(1, fallbackCalls.get());
+    }
+
+
+    @Test
+    void testCancel_StopsRunningBranches() throws InterruptedException {
+        CountDownLatch cancelled = new CountDownLatch(1);
+        AtomicInteger cancelCalls = new AtomicInteger();
+        CpuStrategy blocking = new CpuStrategy() {
+            @Override
+            public CardModel chooseCard(GameEngine engine, PlayerModel cpu) {
+                try {
+                    cancelled.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+                return engine.cpuChooseCard(cpu);
+            }
+
+            @Override
+            public void cancel() {
+                cancelCalls.incrementAndGet();
+                cancelled.countDown();
+            }
+        };
+        PonderingStrategy strategy = new PonderingStrategy(GREEDY, () -> blocking,
+                r -> new Thread(r).start());
+
+        GameEngine engine = new GameEngine(new SplittableRandom(5));
+        engine.addTurnListener(strategy);
+        engine.startGame(3);
+        assertTrue(strategy.isPondering());
+
+        strategy.cancel();
+        assertTrue(cancelCalls.get() > 0);
+        assertFalse(strategy.isPondering());
+    }
+
+
+    @Test
+    void testChooseCard_StopsTheMatchingBranchInsteadOfWaiting() {
+        CountDownLatch stopped = new CountDownLatch(1);
+        CpuStrategy slow = new CpuStrategy() {
+            @Override
+            public CardModel chooseCard(GameEngine engine, PlayerModel cpu) {
+                try {
+                    stopped.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+                return engine.cpuChooseCard(cpu);
+            }
+
+            @Override
+            public void cancel() {
+                stopped.countDown();
+            }
+        };
+        PonderingStrategy strategy = new PonderingStrategy(GREEDY, () -> slow, r -> new Thread(r).start());
+
+        GameEngine engine = new GameEngine(new SplittableRandom(5));
+        engine.addTurnListener(strategy);
+        engine.startGame(2);
+
+        PlayerModel human = engine.currentPlayer();
+        CardModel card = engine.cpuChooseCard(human);
+        assertNotNull(card);
+        assertTrue(engine.applyResult(card).ok());
+        engine.nextTurn();
+
+        long start = System.nanoTime();
+        CardModel reply = strategy.chooseCard(engine, engine.currentPlayer());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertNotNull(reply);
+        assertTrue(elapsedMillis < 2_000, "waited " + elapsedMillis + " ms");
+        assertEquals(1, strategy.hits());
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.cincuentazo.models;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class TransitionTableTest {
+
+    /** Reference implementation of the game rule */
+    private static int expectedDelta(CardModel card, int sum) {
+        if ("A".equals(card.rank)) return (sum + 10 <= 50) ? 10 : 1;
+        return card.baseValue();
+    }
+
+    @Test
+    void testDeltaNextAndLegal_MatchRuleForEverySum() {
+        for (int sum = -200; sum <= 80; sum++) {
+            for (int ordinal = 0; ordinal < CardModel.DECK_SIZE; ordinal++) {
+                CardModel card = CardModel.of(ordinal);
+                int delta = expectedDelta(card, sum);
+
+                assertEquals(delta, TransitionTable.delta(sum, ordinal), card + " at " + sum);
+                assertEquals(sum + delta, TransitionTable.next(sum, ordinal), card + " at " + sum);
+                assertEquals(sum + delta <= 50, TransitionTable.isLegal(sum, ordinal), card + " at " + sum);
+            }
+        }
+    }
+
+    @Test
+    void testLegalMask_AllBelowFortyNoneAboveSixty() {
+        assertEquals(CardMask.ALL, TransitionTable.legalMask(-75));
+        assertEquals(CardMask.ALL, TransitionTable.legalMask(40));
+        assertNotEquals(CardMask.ALL, TransitionTable.legalMask(41));
+        assertNotEquals(0L, TransitionTable.legalMask(60));
+        assertEquals(0L, TransitionTable.legalMask(61));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.cincuentazo.models;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class TranspositionTableTest {
+
+    @Test
+    void testStoreAndProbe() {
+        TranspositionTable table = new TranspositionTable(4);
+        long key = 0x1234_5678_9ABC_DEF0L;
+
+        assertEquals(TranspositionTable.MISS, table.probe(key));
+
+        table.store(key, 3, 0.75f, 17);
+        long entry = table.probe(key);
+        assertNotEquals(TranspositionTable.MISS, entry);
+        assertEquals(0.75f, TranspositionTable.value(entry));
+        assertEquals(3, TranspositionTable.depth(entry));
+        assertEquals(17, TranspositionTable.move(entry));
+
+        table.store(key ^ 1, 1, 0f, -1);
+        assertEquals(-1, TranspositionTable.move(table.probe(key ^ 1)));
+    }
+
+
+    @Test
+    void testStore_DeeperEntryKeptInBucket() {
+        TranspositionTable table = new TranspositionTable(1);
+        // Same bucket (high bits), different keys
+        long deep = 0x0000_0000_0000_0001L;
+        long shallow = 0x0000_0000_0000_0002L;
+        long other = 0x0000_0000_0000_0003L;
+
+        table.store(deep, 5, 0.5f, 1);
+        table.store(shallow, 1, 0.1f, 2);
+        table.store(other, 1, 0.2f, 3);
+
+        // The deep entry survives, the always-replace slot holds the latest one
+        assertEquals(5, TranspositionTable.depth(table.probe(deep)));
+        assertEquals(TranspositionTable.MISS, table.probe(shallow));
+        assertEquals(3, TranspositionTable.move(table.probe(other)));
+
+        // Entries of an older search give way
+        table.newSearch();
+        table.store(shallow, 1, 0.1f, 2);
+        assertEquals(TranspositionTable.MISS, table.probe(deep));
+        assertEquals(2, TranspositionTable.move(table.probe(shallow)));
+    }
+
+
+    @Test
+    void testProbe_CorruptedEntryIsMiss() {
+        TranspositionTable table = new TranspositionTable(2);
+        long key = 42L << 32;
+        table.store(key, 2, 0.3f, 4);
+        // A different key in the same slot must not match
+        assertEquals(TranspositionTable.MISS, table.probe(key | 7));
+
+        table.clear();
+        assertEquals(TranspositionTable.MISS, table.probe(key));
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.cincuentazo.simulation;
+
+import com.example.cincuentazo.models.CpuStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class BatchSimulatorTest {
+
+    @Test
+    void testRun_CountsEveryGame() {
+        BatchSimulator simulator = new BatchSimulator(3, 16, new SplittableRandom(1),
+                CpuStrategy.greedy(), CpuStrategy.random(new SplittableRandom(2)));
+        SimulationResult result = simulator.run(100);
+
+        assertEquals(100, result.games());
+        long wins = result.winsForSeat(0) + result.winsForSeat(1) + result.winsForSeat(2);
+        assertEquals(100, wins + result.unfinished());
+        assertTrue(result.turns() > 0);
+    }
+
+
+    @Test
+    void testRun_FewerGamesThanTables() {
+        SimulationResult result = new BatchSimulator(2, 8, new SplittableRandom(3)).run(3);
+        assertEquals(3, result.games());
+    }
+
+
+    @Test
+    void testNew_RejectsMoreStrategiesThanSeats() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchSimulator(2, 1, new SplittableRandom(4),
+                CpuStrategy.greedy(), CpuStrategy.greedy(), CpuStrategy.greedy()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.cincuentazo.simulation;
+
+import com.example.cincuentazo.models.GameEngine;
+import com.example.cincuentazo.models.PlayerModel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class HeadlessSimulatorTest {
+
+    @Test
+    void testStartGame_WithoutHumanSeatsOnlyCpus() {
+        GameEngine engine = new GameEngine();
+        engine.startGame(3, false);
+
+        assertEquals(3, engine.getPlayers().size());
+        for (PlayerModel p : engine.getPlayers()) {
+            assertFalse(p.isHuman());
+            assertEquals(4, p.getHand().size());
+        }
+    }
+
+    @Test
+    void testRun_CountsEveryGame() {
+        HeadlessSimulator simulator = new HeadlessSimulator(new GameEngine(), 2);
+        SimulationResult result = simulator.run(200);
+
+        assertEquals(200, result.games());
+        long wins = result.winsForSeat(0) + result.winsForSeat(1);
+        assertEquals(200, wins + result.unfinished());
+        assertTrue(result.turns() > 0);
+    }
+
+    @Test
+    void testPlayCpuTurn_EliminatedPlayerHandIsEmptied() {
+        GameEngine engine = new GameEngine();
+        engine.startGame(2, false);
+
+        int turns = 0;
+        while (turns < HeadlessSimulator.MAX_TURNS && engine.playCpuTurn()) {
+            turns++;
+        }
+
+        for (PlayerModel p : engine.getPlayers()) {
+            if (p.isEliminated()) {
+                assertEquals(0, p.getHand().size());
+            }
+        }
+    }
+
+    @Test
+    void testMerge_AddsCounts() {
+        SimulationResult a = new SimulationResult(2);
+        a.record(0, 10);
+        SimulationResult b = new SimulationResult(2);
+        b.record(1, 5);
+        b.record(-1, 7);
+
+        a.merge(b);
+
+        assertEquals(3, a.games());
+        assertEquals(1, a.winsForSeat(0));
+        assertEquals(1, a.winsForSeat(1));
+        assertEquals(1, a.unfinished());
+        assertEquals(22, a.turns());
+    }
+}
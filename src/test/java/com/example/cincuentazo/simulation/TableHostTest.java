@@ -0,0 +1,24 @@
+package com.example.cincuentazo.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class TableHostTest {
+
+    @Test
+    void testOpen_TablesPlayConcurrentlyAndStop() throws InterruptedException {
+        TableHost host = new TableHost(2, 1, 2);
+        host.open(500, 9);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (host.moves() < 1_000 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(host.moves() >= 1_000);
+
+        host.close(5_000);
+        assertEquals(0, host.liveTables());
+    }
+}
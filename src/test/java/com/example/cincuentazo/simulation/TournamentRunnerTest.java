@@ -0,0 +1,76 @@
+package com.example.cincuentazo.simulation;
+
+import com.example.cincuentazo.models.CpuStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class TournamentRunnerTest {
+
+    @Test
+    void testRun_SameSeedSameResultRegardlessOfThreads() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool multi = new ForkJoinPool(4);
+        try {
+            SimulationResult a = new TournamentRunner(2, single).run(5_000, 42);
+            SimulationResult b = new TournamentRunner(2, multi).run(5_000, 42);
+
+            assertEquals(5_000, a.games());
+            assertEquals(a.turns(), b.turns());
+            assertEquals(a.winsForSeat(0), b.winsForSeat(0));
+            assertEquals(a.winsForSeat(1), b.winsForSeat(1));
+        } finally {
+            single.shutdown();
+            multi.shutdown();
+        }
+    }
+
+
+    @Test
+    void testRun_SeatStrategiesAreReproducible() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool multi = new ForkJoinPool(4);
+        try {
+            List<Function<SplittableRandom, CpuStrategy>> seats = List.of(
+                    TournamentRunner.strategyNamed("random"), TournamentRunner.strategyNamed("greedy"));
+            SimulationResult a = new TournamentRunner(2, single, seats).run(5_000, 7);
+            SimulationResult b = new TournamentRunner(2, multi, seats).run(5_000, 7);
+
+            assertEquals(5_000, a.games());
+            assertEquals(a.turns(), b.turns());
+            assertEquals(a.winsForSeat(0), b.winsForSeat(0));
+        } finally {
+            single.shutdown();
+            multi.shutdown();
+        }
+    }
+
+
+    @Test
+    void testRun_SearchSeatsAreReproducible() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool multi = new ForkJoinPool(4);
+        try {
+            List<Function<SplittableRandom, CpuStrategy>> seats = List.of(
+                    TournamentRunner.strategyNamed("mcts"), TournamentRunner.strategyNamed("expectimax"),
+                    TournamentRunner.strategyNamed("greedy"));
+            SimulationResult a = new TournamentRunner(3, single, seats).run(20, 3);
+            SimulationResult b = new TournamentRunner(3, multi, seats).run(20, 3);
+
+            assertEquals(20, a.games());
+            assertEquals(a.turns(), b.turns());
+            for (int seat = 0; seat < 3; seat++) {
+                assertEquals(a.winsForSeat(seat), b.winsForSeat(seat));
+            }
+        } finally {
+            single.shutdown();
+            multi.shutdown();
+        }
+    }
+}